@@ -0,0 +1,48 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Per-vehicle outcome of ParkingLot.parkAll/removeAll, indexed like the request list.
+public class BulkResult {
+    private final int[] floors;
+    private final int[] spotIndices;
+    private int successCount;
+
+    BulkResult(int size) {
+        floors = new int[size];
+        spotIndices = new int[size];
+        Arrays.fill(floors, -1);
+        Arrays.fill(spotIndices, -1);
+    }
+
+    void record(int position, int floor, int spotIndex) {
+        floors[position] = floor;
+        spotIndices[position] = spotIndex;
+        successCount++;
+    }
+
+    public int size() {
+        return floors.length;
+    }
+
+    public boolean isSuccessful(int position) {
+        return spotIndices[position] >= 0;
+    }
+
+    // Floor and spot the vehicle was parked in or removed from, or -1 if the operation failed.
+    public int getFloor(int position) {
+        return floors[position];
+    }
+
+    public int getSpotIndex(int position) {
+        return spotIndices[position];
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public int getFailureCount() {
+        return floors.length - successCount;
+    }
+}
@@ -0,0 +1,142 @@
+package org.example;
+
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.util.AbstractList;
+import java.util.List;
+
+// Spot state held in parallel primitive arrays instead of one ParkingSpot object per spot.
+// Coordinates are derived from the index through SpotLayout, and ParkingSpot instances handed
+// to callers are short-lived views over the arrays.
+public class CompactSpotStore implements SpotStore {
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final int FREE = 0;
+
+    private final byte[] spotTypes;
+    private final int[] occupants;
+    private final long[] entryTimes;
+    private final VehicleHandleTable vehicleHandles = new VehicleHandleTable();
+    private final List<ParkingSpot> spotViews = new AbstractList<>() {
+        @Override
+        public ParkingSpot get(int index) {
+            return getSpot(index);
+        }
+
+        @Override
+        public int size() {
+            return spotTypes.length;
+        }
+    };
+
+    public CompactSpotStore(int numberOfSpots) {
+        spotTypes = new byte[numberOfSpots];
+        occupants = new int[numberOfSpots];
+        entryTimes = new long[numberOfSpots];
+        for (int i = 0; i < numberOfSpots; i++) {
+            spotTypes[i] = (byte) SpotLayout.typeOf(i, numberOfSpots).ordinal();
+        }
+    }
+
+    @Override
+    public int size() {
+        return spotTypes.length;
+    }
+
+    @Override
+    public VehicleType getSpotType(int spotIndex) {
+        return VEHICLE_TYPES[spotTypes[spotIndex]];
+    }
+
+    @Override
+    public int getX(int spotIndex) {
+        return SpotLayout.xOf(spotIndex);
+    }
+
+    @Override
+    public int getY(int spotIndex) {
+        return SpotLayout.yOf(spotIndex);
+    }
+
+    @Override
+    public boolean isAvailable(int spotIndex) {
+        return occupants[spotIndex] == FREE;
+    }
+
+    @Override
+    public Vehicle getParkedVehicle(int spotIndex) {
+        int occupant = occupants[spotIndex];
+        return occupant == FREE ? null : vehicleHandles.vehicleOf(occupant - 1);
+    }
+
+    @Override
+    public long getEntryTime(int spotIndex) {
+        return entryTimes[spotIndex];
+    }
+
+    @Override
+    public void parkVehicle(int spotIndex, Vehicle vehicle, long entryTime) {
+        occupants[spotIndex] = vehicleHandles.intern(vehicle, spotIndex) + 1;
+        entryTimes[spotIndex] = entryTime;
+    }
+
+    @Override
+    public Vehicle removeVehicle(int spotIndex) {
+        int occupant = occupants[spotIndex];
+        if (occupant == FREE) {
+            return null;
+        }
+        Vehicle vehicle = vehicleHandles.vehicleOf(occupant - 1);
+        vehicleHandles.release(occupant - 1);
+        occupants[spotIndex] = FREE;
+        entryTimes[spotIndex] = 0;
+        return vehicle;
+    }
+
+    @Override
+    public int findSpot(Vehicle vehicle) {
+        int handle = vehicleHandles.find(vehicle);
+        return handle < 0 ? -1 : vehicleHandles.spotOf(handle);
+    }
+
+    @Override
+    public ParkingSpot getSpot(int spotIndex) {
+        return new SpotView(spotIndex);
+    }
+
+    @Override
+    public List<ParkingSpot> getSpots() {
+        return spotViews;
+    }
+
+    private class SpotView extends ParkingSpot {
+        SpotView(int spotIndex) {
+            super(spotIndex, getSpotType(spotIndex), SpotLayout.xOf(spotIndex), SpotLayout.yOf(spotIndex));
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return CompactSpotStore.this.isAvailable(getSpotNumber());
+        }
+
+        @Override
+        void occupy(Vehicle vehicle, long entryTime) {
+            CompactSpotStore.this.parkVehicle(getSpotNumber(), vehicle, entryTime);
+        }
+
+        @Override
+        public void removeVehicle() {
+            CompactSpotStore.this.removeVehicle(getSpotNumber());
+        }
+
+        @Override
+        public Vehicle getParkedVehicle() {
+            return CompactSpotStore.this.getParkedVehicle(getSpotNumber());
+        }
+
+        @Override
+        public long getEntryTime() {
+            return CompactSpotStore.this.getEntryTime(getSpotNumber());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example;
+
+public class Gate {
+    private final int id;
+    private final int x;
+    private final int y;
+
+    public Gate(int id, int x, int y) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Gate id must not be negative");
+        }
+        this.id = id;
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public String toString() {
+        return "Gate " + id + " at (" + x + ", " + y + ")";
+    }
+}
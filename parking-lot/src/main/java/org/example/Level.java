@@ -1,59 +1,403 @@
 package org.example;
 
+import org.example.allocation.SpotAllocator;
+import org.example.allocation.SpotCompatibilityPolicy;
+import org.example.availability.LevelAvailability;
+import org.example.ticket.TicketId;
 import org.example.vehicle.Vehicle;
 import org.example.vehicle.VehicleType;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Level {
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
     private final int floor;
-    private final List<ParkingSpot> parkingSpots;
+    private final SpotStore spotStore;
+    private final int[] totalSpots = new int[VEHICLE_TYPES.length];
+    private final LongAdder[] occupiedSpots = new LongAdder[VEHICLE_TYPES.length];
+    private final LongAdder[] parkedVehicles = new LongAdder[VEHICLE_TYPES.length];
+    private final LongAdder[] reservedSpots = new LongAdder[VEHICLE_TYPES.length];
+    private final SpotAllocator spotAllocator;
+    private final SpotCompatibilityPolicy compatibilityPolicy;
+    private volatile ParkingEventListener[] listeners = new ParkingEventListener[0];
+    private boolean acceptingVehicles = true;
+    // Ticket sequence of each spot's occupant, 0 if it parked without a ticket. Written under the
+    // monitor and read without it by ticket validation; allocated when the first ticket is issued.
+    private volatile AtomicLongArray ticketSequences;
+    // Whether the floor and every spot index fit in a ticket id; checked once, here.
+    private final boolean ticketAddressable;
 
     public Level(int floor, int numberOfSpots) {
-        this.floor = floor;
-        parkingSpots = new ArrayList<>(numberOfSpots);
-        int motorcycleSpots = numberOfSpots * 50 / 100;
-        int carSpots = numberOfSpots * 40 / 100;
+        this(floor, numberOfSpots, SpotCompatibilityPolicy.sizeCompatible());
+    }
 
-        for (int i = 0; i < motorcycleSpots; i++) {
-            parkingSpots.add(new ParkingSpot(i, VehicleType.MOTORCYCLE));
+    public Level(int floor, int numberOfSpots, SpotCompatibilityPolicy compatibilityPolicy) {
+        this(floor, new ObjectSpotStore(numberOfSpots), compatibilityPolicy);
+    }
+
+    public Level(int floor, SpotStore spotStore, SpotCompatibilityPolicy compatibilityPolicy) {
+        this.floor = floor;
+        this.spotStore = spotStore;
+        this.compatibilityPolicy = compatibilityPolicy;
+        for (VehicleType vehicleType : VEHICLE_TYPES) {
+            occupiedSpots[vehicleType.ordinal()] = new LongAdder();
+            parkedVehicles[vehicleType.ordinal()] = new LongAdder();
+            reservedSpots[vehicleType.ordinal()] = new LongAdder();
         }
-        for (int i = motorcycleSpots; i < motorcycleSpots + carSpots; i++) {
-            parkingSpots.add(new ParkingSpot(i, VehicleType.CAR));
+        for (int spotIndex = 0; spotIndex < spotStore.size(); spotIndex++) {
+            totalSpots[spotStore.getSpotType(spotIndex).ordinal()]++;
         }
-        for (int i = motorcycleSpots + carSpots; i < numberOfSpots; i++) {
-            parkingSpots.add(new ParkingSpot(i, VehicleType.TRUCK));
+        spotAllocator = new SpotAllocator(spotStore);
+        ticketAddressable = floor >= 0 && floor <= TicketId.MAX_FLOOR
+            && spotStore.size() - 1 <= TicketId.MAX_SPOT_INDEX;
+    }
+
+    public synchronized void addGate(Gate gate) {
+        spotAllocator.addGate(gate);
+    }
+
+    // A draining level refuses new vehicles and reservations; exits and claims of existing holds
+    // keep working.
+    synchronized void setAcceptingVehicles(boolean acceptingVehicles) {
+        this.acceptingVehicles = acceptingVehicles;
+    }
+
+    public synchronized boolean isAcceptingVehicles() {
+        return acceptingVehicles;
+    }
+
+    public synchronized void addParkingEventListener(ParkingEventListener listener) {
+        ParkingEventListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    public synchronized void removeParkingEventListener(ParkingEventListener listener) {
+        ParkingEventListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                ParkingEventListener[] updated = new ParkingEventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
         }
     }
 
     public synchronized boolean parkVehicle(Vehicle vehicle) {
-        for (ParkingSpot spot : parkingSpots) {
-            if (spot.isAvailable() && spot.getVehicleType() == vehicle.getType()) {
-                spot.parkVehicle(vehicle);
-                return true;
+        return parkVehicle(vehicle, null);
+    }
+
+    public synchronized boolean parkVehicle(Vehicle vehicle, Gate gate) {
+        if (!acceptingVehicles) {
+            return false;
+        }
+        int spotIndex = allocate(vehicle.getType(), gate);
+        if (spotIndex < 0) {
+            return false;
+        }
+        parkAt(spotIndex, vehicle, System.currentTimeMillis());
+        return true;
+    }
+
+    // Parks like parkVehicle and returns the ticket id naming this floor, the spot and the given
+    // sequence, or TicketId.NONE if the vehicle was not parked here.
+    public synchronized long parkVehicleWithTicket(Vehicle vehicle, Gate gate, long ticketSequence) {
+        if (!ticketAddressable) {
+            throw new IllegalStateException("Floor " + floor + " with " + spotStore.size()
+                + " spots does not fit in a ticket id");
+        }
+        if (!acceptingVehicles) {
+            return TicketId.NONE;
+        }
+        int spotIndex = allocate(vehicle.getType(), gate);
+        if (spotIndex < 0) {
+            return TicketId.NONE;
+        }
+        AtomicLongArray sequences = ticketSequences;
+        if (sequences == null) {
+            sequences = new AtomicLongArray(spotStore.size());
+            ticketSequences = sequences;
+        }
+        sequences.set(spotIndex, ticketSequence);
+        parkAt(spotIndex, vehicle, System.currentTimeMillis());
+        return TicketId.encode(floor, spotIndex, ticketSequence);
+    }
+
+    // True while the ticket's spot on this level is held by the vehicle it was issued to. Lock-free:
+    // decodes the spot and compares one array slot.
+    public boolean isTicketValid(long ticketId) {
+        AtomicLongArray sequences = ticketSequences;
+        int spotIndex = TicketId.spotIndexOf(ticketId);
+        return sequences != null && TicketId.floorOf(ticketId) == floor && spotIndex < sequences.length()
+            && sequences.get(spotIndex) == TicketId.sequenceOf(ticketId);
+    }
+
+    // Removes the ticket holder and returns its vehicle, or null if the ticket is not valid here.
+    public synchronized Vehicle removeVehicleWithTicket(long ticketId) {
+        if (!TicketId.isWellFormed(ticketId) || !isTicketValid(ticketId)) {
+            return null;
+        }
+        int spotIndex = TicketId.spotIndexOf(ticketId);
+        Vehicle vehicle = spotStore.getParkedVehicle(spotIndex);
+        removeAt(spotIndex, vehicle, System.currentTimeMillis());
+        return vehicle;
+    }
+
+    // Parks a batch under a single acquisition of the level monitor, one vehicle type at a time, so
+    // once a type's candidate pools run out the rest of that type is rejected without probing the
+    // allocator again. Returns the spot of each vehicle, or -1 where it could not be parked here.
+    public synchronized int[] parkAll(List<Vehicle> vehicles, Gate gate) {
+        int[] spotIndices = new int[vehicles.size()];
+        Arrays.fill(spotIndices, -1);
+        if (!acceptingVehicles) {
+            return spotIndices;
+        }
+        long timestamp = System.currentTimeMillis();
+        for (VehicleType vehicleType : VEHICLE_TYPES) {
+            for (int i = 0; i < vehicles.size(); i++) {
+                Vehicle vehicle = vehicles.get(i);
+                if (vehicle.getType() != vehicleType) {
+                    continue;
+                }
+                int spotIndex = allocate(vehicleType, gate);
+                if (spotIndex < 0) {
+                    break;
+                }
+                parkAt(spotIndex, vehicle, timestamp);
+                spotIndices[i] = spotIndex;
             }
         }
-        return false;
+        return spotIndices;
     }
 
     public synchronized boolean removeVehicle(Vehicle vehicle) {
-        for (ParkingSpot spot : parkingSpots) {
-            if (!spot.isAvailable() && spot.getParkedVehicle() == vehicle) {
-                spot.removeVehicle();
+        int spotIndex = spotStore.findSpot(vehicle);
+        if (spotIndex < 0) {
+            return false;
+        }
+        removeAt(spotIndex, vehicle, System.currentTimeMillis());
+        return true;
+    }
+
+    // Removes a batch under a single acquisition of the level monitor. Returns the spot each vehicle
+    // was released from, or -1 where the vehicle is not parked on this level.
+    public synchronized int[] removeAll(List<Vehicle> vehicles) {
+        int[] spotIndices = new int[vehicles.size()];
+        long exitTime = System.currentTimeMillis();
+        for (int i = 0; i < vehicles.size(); i++) {
+            Vehicle vehicle = vehicles.get(i);
+            int spotIndex = spotStore.findSpot(vehicle);
+            if (spotIndex >= 0) {
+                removeAt(spotIndex, vehicle, exitTime);
+            }
+            spotIndices[i] = spotIndex;
+        }
+        return spotIndices;
+    }
+
+    // A reserved spot counts as occupied in the availability counters and is skipped by the
+    // allocator until it is either claimed by parkReservedVehicle or released by cancelReservation.
+    public synchronized int reserveSpot(VehicleType vehicleType, Gate gate) {
+        if (!acceptingVehicles) {
+            return -1;
+        }
+        int spotIndex = allocate(vehicleType, gate);
+        if (spotIndex >= 0) {
+            VehicleType spotType = spotStore.getSpotType(spotIndex);
+            spotAllocator.markReserved(spotIndex);
+            occupiedSpots[spotType.ordinal()].increment();
+            reservedSpots[spotType.ordinal()].increment();
+            for (ParkingEventListener listener : listeners) {
+                listener.onReservationChanged(this, spotIndex, true);
+            }
+        }
+        return spotIndex;
+    }
+
+    public synchronized boolean parkReservedVehicle(int spotIndex, Vehicle vehicle) {
+        VehicleType spotType = spotStore.getSpotType(spotIndex);
+        if (!spotAllocator.isReserved(spotIndex) || !compatibilityPolicy.allows(vehicle.getType(), spotType)) {
+            return false;
+        }
+        spotAllocator.clearReserved(spotIndex);
+        occupiedSpots[spotType.ordinal()].decrement();
+        reservedSpots[spotType.ordinal()].decrement();
+        parkAt(spotIndex, vehicle, System.currentTimeMillis());
+        return true;
+    }
+
+    public synchronized boolean cancelReservation(int spotIndex) {
+        if (!spotAllocator.isReserved(spotIndex)) {
+            return false;
+        }
+        VehicleType spotType = spotStore.getSpotType(spotIndex);
+        spotAllocator.clearReserved(spotIndex);
+        occupiedSpots[spotType.ordinal()].decrement();
+        reservedSpots[spotType.ordinal()].decrement();
+        spotAllocator.release(spotIndex);
+        for (ParkingEventListener listener : listeners) {
+            listener.onReservationChanged(this, spotIndex, false);
+        }
+        return true;
+    }
+
+    // Recovery entry points: they put a spot into a known state without consulting the allocator
+    // and without notifying listeners, so replaying a journal does not journal itself again.
+    public synchronized void restoreVehicle(int spotIndex, Vehicle vehicle, long entryTime) {
+        if (!spotStore.isAvailable(spotIndex)) {
+            release(spotIndex);
+        }
+        occupy(spotIndex, vehicle, entryTime);
+    }
+
+    public synchronized void restoreRemoval(int spotIndex) {
+        if (!spotStore.isAvailable(spotIndex)) {
+            release(spotIndex);
+        }
+    }
+
+    public synchronized void visitOccupiedSpots(OccupiedSpotVisitor visitor) {
+        for (int spotIndex = 0; spotIndex < spotStore.size(); spotIndex++) {
+            if (!spotStore.isAvailable(spotIndex)) {
+                visitor.visit(spotIndex, spotStore.getParkedVehicle(spotIndex), spotStore.getEntryTime(spotIndex));
+            }
+        }
+    }
+
+    // Probes at most one pool per candidate spot type, skipping types with no free spot.
+    private int allocate(VehicleType vehicleType, Gate gate) {
+        for (VehicleType spotType : compatibilityPolicy.getCandidateSpotTypes(vehicleType)) {
+            if (getAvailableSpots(spotType) == 0) {
+                continue;
+            }
+            int spotIndex = spotAllocator.allocate(spotType, gate);
+            if (spotIndex >= 0) {
+                return spotIndex;
+            }
+        }
+        return -1;
+    }
+
+    private void parkAt(int spotIndex, Vehicle vehicle, long entryTime) {
+        occupy(spotIndex, vehicle, entryTime);
+        for (ParkingEventListener listener : listeners) {
+            listener.onVehicleParked(this, spotIndex, vehicle, entryTime);
+        }
+    }
+
+    private void removeAt(int spotIndex, Vehicle vehicle, long exitTime) {
+        long entryTime = spotStore.getEntryTime(spotIndex);
+        release(spotIndex);
+        for (ParkingEventListener listener : listeners) {
+            listener.onVehicleRemoved(this, spotIndex, vehicle, entryTime, exitTime);
+        }
+    }
+
+    private void occupy(int spotIndex, Vehicle vehicle, long entryTime) {
+        spotStore.parkVehicle(spotIndex, vehicle, entryTime);
+        occupiedSpots[spotStore.getSpotType(spotIndex).ordinal()].increment();
+        parkedVehicles[vehicle.getType().ordinal()].increment();
+    }
+
+    private void release(int spotIndex) {
+        AtomicLongArray sequences = ticketSequences;
+        if (sequences != null) {
+            sequences.set(spotIndex, 0);
+        }
+        Vehicle vehicle = spotStore.removeVehicle(spotIndex);
+        occupiedSpots[spotStore.getSpotType(spotIndex).ordinal()].decrement();
+        parkedVehicles[vehicle.getType().ordinal()].decrement();
+        spotAllocator.release(spotIndex);
+    }
+
+    public synchronized ParkingSpot getParkingSpot(Vehicle vehicle) {
+        int spotIndex = spotStore.findSpot(vehicle);
+        return spotIndex < 0 ? null : spotStore.getSpot(spotIndex);
+    }
+
+    public ParkingSpot getParkingSpot(int spotIndex) {
+        return spotStore.getSpot(spotIndex);
+    }
+
+    public int getAvailableSpots(VehicleType vehicleType) {
+        return totalSpots[vehicleType.ordinal()] - occupiedSpots[vehicleType.ordinal()].intValue();
+    }
+
+    public boolean canPark(VehicleType vehicleType) {
+        for (VehicleType spotType : compatibilityPolicy.getCandidateSpotTypes(vehicleType)) {
+            if (getAvailableSpots(spotType) > 0) {
                 return true;
             }
         }
         return false;
     }
 
-    public void displayAvailablity() {
-        for (ParkingSpot spot : parkingSpots) {
-            System.out.println("Spot number: " + spot.getSpotNumber() + " is available: " + spot.isAvailable());
+    // Free and total spots a vehicle of this type may use, fallback spot types included.
+    public int getFreeSpotsFor(VehicleType vehicleType) {
+        int free = 0;
+        for (VehicleType spotType : compatibilityPolicy.getCandidateSpotTypes(vehicleType)) {
+            free += getAvailableSpots(spotType);
+        }
+        return free;
+    }
+
+    public int getCapacityFor(VehicleType vehicleType) {
+        int capacity = 0;
+        for (VehicleType spotType : compatibilityPolicy.getCandidateSpotTypes(vehicleType)) {
+            capacity += totalSpots[spotType.ordinal()];
+        }
+        return capacity;
+    }
+
+    public int getParkedVehicles(VehicleType vehicleType) {
+        return parkedVehicles[vehicleType.ordinal()].intValue();
+    }
+
+    public int getReservedSpots(VehicleType vehicleType) {
+        return reservedSpots[vehicleType.ordinal()].intValue();
+    }
+
+    public int getTotalSpots(VehicleType vehicleType) {
+        return totalSpots[vehicleType.ordinal()];
+    }
+
+    public LevelAvailability getAvailability() {
+        int[] freeSpots = new int[VEHICLE_TYPES.length];
+        int[] parked = new int[VEHICLE_TYPES.length];
+        for (VehicleType vehicleType : VEHICLE_TYPES) {
+            freeSpots[vehicleType.ordinal()] = getAvailableSpots(vehicleType);
+            parked[vehicleType.ordinal()] = getParkedVehicles(vehicleType);
         }
+        return new LevelAvailability(floor, freeSpots, totalSpots, parked);
+    }
+
+    public void displayAvailablity() {
+        System.out.println(getAvailability());
+    }
+
+    public SpotCompatibilityPolicy getCompatibilityPolicy() {
+        return compatibilityPolicy;
+    }
+
+    public VehicleType getSpotType(int spotIndex) {
+        return spotStore.getSpotType(spotIndex);
+    }
+
+    public int getSpotCount() {
+        return spotStore.size();
+    }
+
+    public int getFloor() {
+        return floor;
     }
 
     public List<ParkingSpot> getParkingSpots() {
-        return parkingSpots;
+        return spotStore.getSpots();
     }
 }
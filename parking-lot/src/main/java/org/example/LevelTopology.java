@@ -0,0 +1,139 @@
+package org.example;
+
+import org.example.ticket.TicketId;
+import org.example.vehicle.VehicleType;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Immutable view of a lot's levels. Every change builds a new instance that ParkingLot publishes
+// through a volatile field, so gates iterate plain arrays without locking while admins add, drain
+// or close levels. Draining levels still serve exits and lookups but take no new vehicles.
+public final class LevelTopology {
+    private static final VehicleType[] SPOT_TYPES = VehicleType.values();
+    private static final int MAX_INDEXED_FLOOR = TicketId.MAX_FLOOR;
+    static final LevelTopology EMPTY = new LevelTopology(new Level[0], new boolean[0]);
+
+    private final Level[] levels;
+    private final boolean[] draining;
+    private final Level[] openLevels;
+    private final int[] openCapacity = new int[SPOT_TYPES.length];
+    // Direct floor-number lookup for floors 0..MAX_INDEXED_FLOOR (every floor a ticket can name);
+    // other floors fall back to a scan.
+    private final Level[] levelsByFloor;
+
+    private LevelTopology(Level[] levels, boolean[] draining) {
+        this.levels = levels;
+        this.draining = draining;
+        int highestIndexedFloor = -1;
+        for (Level level : levels) {
+            if (level.getFloor() >= 0 && level.getFloor() <= MAX_INDEXED_FLOOR) {
+                highestIndexedFloor = Math.max(highestIndexedFloor, level.getFloor());
+            }
+        }
+        this.levelsByFloor = new Level[highestIndexedFloor + 1];
+        for (Level level : levels) {
+            if (level.getFloor() >= 0 && level.getFloor() <= highestIndexedFloor) {
+                levelsByFloor[level.getFloor()] = level;
+            }
+        }
+        int openCount = 0;
+        for (boolean levelDraining : draining) {
+            openCount += levelDraining ? 0 : 1;
+        }
+        this.openLevels = new Level[openCount];
+        int next = 0;
+        for (int i = 0; i < levels.length; i++) {
+            if (!draining[i]) {
+                openLevels[next++] = levels[i];
+                for (VehicleType spotType : SPOT_TYPES) {
+                    openCapacity[spotType.ordinal()] += levels[i].getTotalSpots(spotType);
+                }
+            }
+        }
+    }
+
+    LevelTopology withLevel(Level level) {
+        if (indexOf(level.getFloor()) >= 0) {
+            throw new IllegalArgumentException("Floor " + level.getFloor() + " already exists");
+        }
+        Level[] updatedLevels = Arrays.copyOf(levels, levels.length + 1);
+        updatedLevels[levels.length] = level;
+        return new LevelTopology(updatedLevels, Arrays.copyOf(draining, draining.length + 1));
+    }
+
+    LevelTopology withDraining(int floor, boolean levelDraining) {
+        int index = requireIndexOf(floor);
+        boolean[] updatedDraining = draining.clone();
+        updatedDraining[index] = levelDraining;
+        return new LevelTopology(levels, updatedDraining);
+    }
+
+    LevelTopology withoutLevel(int floor) {
+        int index = requireIndexOf(floor);
+        Level[] updatedLevels = new Level[levels.length - 1];
+        boolean[] updatedDraining = new boolean[levels.length - 1];
+        for (int i = 0, next = 0; i < levels.length; i++) {
+            if (i != index) {
+                updatedLevels[next] = levels[i];
+                updatedDraining[next++] = draining[i];
+            }
+        }
+        return new LevelTopology(updatedLevels, updatedDraining);
+    }
+
+    // Open and draining levels, in the order they were added. Not to be modified.
+    Level[] levels() {
+        return levels;
+    }
+
+    // Levels that accept new vehicles. Not to be modified.
+    Level[] openLevels() {
+        return openLevels;
+    }
+
+    public List<Level> getLevels() {
+        return List.of(levels);
+    }
+
+    public List<Level> getOpenLevels() {
+        return List.of(openLevels);
+    }
+
+    public Level getLevel(int floor) {
+        if (floor >= 0 && floor < levelsByFloor.length) {
+            return levelsByFloor[floor];
+        }
+        if (floor >= 0 && floor <= MAX_INDEXED_FLOOR) {
+            return null;
+        }
+        int index = indexOf(floor);
+        return index < 0 ? null : levels[index];
+    }
+
+    public boolean isDraining(int floor) {
+        return draining[requireIndexOf(floor)];
+    }
+
+    // Spots of the given type on open levels.
+    public int getCapacity(VehicleType spotType) {
+        return openCapacity[spotType.ordinal()];
+    }
+
+    private int indexOf(int floor) {
+        for (int i = 0; i < levels.length; i++) {
+            if (levels[i].getFloor() == floor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int requireIndexOf(int floor) {
+        int index = indexOf(floor);
+        if (index < 0) {
+            throw new IllegalArgumentException("No floor " + floor);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example;
+
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ObjectSpotStore implements SpotStore {
+    private final List<ParkingSpot> parkingSpots;
+    private final Map<Vehicle, ParkingSpot> spotsByVehicle = new HashMap<>();
+
+    public ObjectSpotStore(int numberOfSpots) {
+        parkingSpots = new ArrayList<>(numberOfSpots);
+        for (int i = 0; i < numberOfSpots; i++) {
+            parkingSpots.add(new ParkingSpot(i, SpotLayout.typeOf(i, numberOfSpots), SpotLayout.xOf(i), SpotLayout.yOf(i)));
+        }
+    }
+
+    @Override
+    public int size() {
+        return parkingSpots.size();
+    }
+
+    @Override
+    public VehicleType getSpotType(int spotIndex) {
+        return parkingSpots.get(spotIndex).getVehicleType();
+    }
+
+    @Override
+    public int getX(int spotIndex) {
+        return parkingSpots.get(spotIndex).getX();
+    }
+
+    @Override
+    public int getY(int spotIndex) {
+        return parkingSpots.get(spotIndex).getY();
+    }
+
+    @Override
+    public boolean isAvailable(int spotIndex) {
+        return parkingSpots.get(spotIndex).isAvailable();
+    }
+
+    @Override
+    public Vehicle getParkedVehicle(int spotIndex) {
+        return parkingSpots.get(spotIndex).getParkedVehicle();
+    }
+
+    @Override
+    public long getEntryTime(int spotIndex) {
+        return parkingSpots.get(spotIndex).getEntryTime();
+    }
+
+    @Override
+    public void parkVehicle(int spotIndex, Vehicle vehicle, long entryTime) {
+        ParkingSpot spot = parkingSpots.get(spotIndex);
+        spot.occupy(vehicle, entryTime);
+        spotsByVehicle.put(vehicle, spot);
+    }
+
+    @Override
+    public Vehicle removeVehicle(int spotIndex) {
+        ParkingSpot spot = parkingSpots.get(spotIndex);
+        Vehicle vehicle = spot.getParkedVehicle();
+        spot.removeVehicle();
+        if (vehicle != null) {
+            spotsByVehicle.remove(vehicle);
+        }
+        return vehicle;
+    }
+
+    @Override
+    public int findSpot(Vehicle vehicle) {
+        ParkingSpot spot = spotsByVehicle.get(vehicle);
+        return spot == null ? -1 : spot.getSpotNumber();
+    }
+
+    @Override
+    public ParkingSpot getSpot(int spotIndex) {
+        return parkingSpots.get(spotIndex);
+    }
+
+    @Override
+    public List<ParkingSpot> getSpots() {
+        return parkingSpots;
+    }
+}
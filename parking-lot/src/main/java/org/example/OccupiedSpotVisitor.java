@@ -0,0 +1,8 @@
+package org.example;
+
+import org.example.vehicle.Vehicle;
+
+@FunctionalInterface
+public interface OccupiedSpotVisitor {
+    void visit(int spotIndex, Vehicle vehicle, long entryTime);
+}
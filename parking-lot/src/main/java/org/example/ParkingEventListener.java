@@ -0,0 +1,15 @@
+package org.example;
+
+import org.example.vehicle.Vehicle;
+
+// Called by Level while it still holds its monitor, so events for one level arrive in order.
+// Implementations must be quick and must not call back into the level.
+public interface ParkingEventListener {
+    void onVehicleParked(Level level, int spotIndex, Vehicle vehicle, long entryTime);
+
+    void onVehicleRemoved(Level level, int spotIndex, Vehicle vehicle, long entryTime, long exitTime);
+
+    // A spot was put on hold or its hold was cancelled; claiming a hold is reported as a park.
+    default void onReservationChanged(Level level, int spotIndex, boolean reserved) {
+    }
+}
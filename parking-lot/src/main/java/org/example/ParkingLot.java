@@ -1,63 +1,269 @@
 package org.example;
 
+import org.example.allocation.LevelSelectionStrategy;
+import org.example.availability.AvailabilityFeed;
+import org.example.availability.AvailabilityListener;
+import org.example.availability.AvailabilitySnapshot;
+import org.example.availability.AvailabilitySubscription;
+import org.example.availability.LevelAvailability;
+import org.example.ticket.TicketId;
+import org.example.ticket.TicketSequencer;
 import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class ParkingLot {
-    private static ParkingLot instance;
-    private final List<Level> levels;
+    public static final long DEFAULT_AVAILABILITY_COALESCE_MILLIS = 250;
+    private volatile LevelTopology topology = LevelTopology.EMPTY;
+    private final List<Gate> gates;
+    private final List<ParkingEventListener> listeners;
+    private AvailabilityFeed availabilityFeed;
+    private volatile LevelSelectionStrategy levelSelection = LevelSelectionStrategy.firstFit();
+    private final TicketSequencer ticketSequencer = new TicketSequencer();
 
-    private ParkingLot() {
-        levels = new ArrayList<>();
+    // One instance per facility; see FacilityRegistry for hosting several in one process.
+    public ParkingLot() {
+        gates = new ArrayList<>();
+        listeners = new ArrayList<>();
     }
 
-    public static synchronized ParkingLot getInstance() {
-        if (instance == null) {
-            instance = new ParkingLot();
+    // Topology changes are serialized on the lot's monitor and published as a new snapshot; the
+    // park, exit and query paths below only read the volatile snapshot and take no lot-wide lock.
+    // A level can be added while gates are running: it is wired to the lot's gates and listeners
+    // before it becomes visible.
+    public synchronized void addLevel(Level level) {
+        for (Gate gate : gates) {
+            level.addGate(gate);
         }
-        return instance;
+        for (ParkingEventListener listener : listeners) {
+            level.addParkingEventListener(listener);
+        }
+        topology = topology.withLevel(level);
     }
 
-    public void addLevel(Level level) {
-        levels.add(level);
+    // The level stops taking new vehicles and reservations but keeps serving exits and lookups.
+    // A gate holding the previous snapshot may still try the level, so the level itself refuses
+    // new vehicles first (under its monitor, after any park in flight) and then the snapshot changes.
+    public synchronized void drainLevel(int floor) {
+        LevelTopology drained = topology.withDraining(floor, true);
+        topology.getLevel(floor).setAcceptingVehicles(false);
+        topology = drained;
     }
 
-    public boolean parkVehicle(Vehicle vehicle) {
-        for (Level level : levels) {
-            if (level.parkVehicle(vehicle)) {
-                System.out.println("Vehicle parked successfully");
-                return true;
+    public synchronized void reopenLevel(int floor) {
+        LevelTopology reopened = topology.withDraining(floor, false);
+        topology.getLevel(floor).setAcceptingVehicles(true);
+        topology = reopened;
+    }
+
+    // Removes a level that holds no vehicles and no reservations; drain it first.
+    public synchronized Level closeLevel(int floor) {
+        Level level = topology.getLevel(floor);
+        if (level == null) {
+            throw new IllegalArgumentException("No floor " + floor);
+        }
+        if (!topology.isDraining(floor)) {
+            throw new IllegalStateException("Floor " + floor + " must be drained before it is closed");
+        }
+        for (VehicleType spotType : VehicleType.values()) {
+            if (level.getAvailableSpots(spotType) != level.getTotalSpots(spotType)) {
+                throw new IllegalStateException("Floor " + floor + " still has parked or reserved vehicles");
             }
         }
+        topology = topology.withoutLevel(floor);
+        return level;
+    }
+
+    // Registers the listener on every current level and on levels added later.
+    public synchronized void addParkingEventListener(ParkingEventListener listener) {
+        for (Level level : topology.levels()) {
+            level.addParkingEventListener(listener);
+        }
+        listeners.add(listener);
+    }
+
+    public synchronized void addGate(Gate gate) {
+        for (Level level : topology.levels()) {
+            level.addGate(gate);
+        }
+        gates.add(gate);
+    }
+
+    public synchronized List<Gate> getGates() {
+        return List.copyOf(gates);
+    }
+
+    // Decides which open level each park attempt starts at; first-fit by default.
+    public void setLevelSelectionStrategy(LevelSelectionStrategy levelSelection) {
+        this.levelSelection = levelSelection;
+    }
+
+    public LevelTopology getTopology() {
+        return topology;
+    }
+
+    public Level getLevel(int floor) {
+        return topology.getLevel(floor);
+    }
+
+    // Open and draining levels.
+    public List<Level> getLevels() {
+        return topology.getLevels();
+    }
+
+    public List<Level> getOpenLevels() {
+        return topology.getOpenLevels();
+    }
+
+    // Spots of the given type on open levels.
+    public int getCapacity(VehicleType spotType) {
+        return topology.getCapacity(spotType);
+    }
+
+    public boolean parkVehicle(Vehicle vehicle) {
+        return parkVehicle(vehicle, null);
+    }
+
+    public boolean parkVehicle(Vehicle vehicle, Gate gate) {
+        if (tryParkVehicle(vehicle, gate) != null) {
+            System.out.println("Vehicle parked successfully");
+            return true;
+        }
         System.out.println("No spot available for vehicle");
         return false;
     }
 
-    public boolean removeVehicle(Vehicle vehicle) {
-        for (Level level : levels) {
-            if (level.removeVehicle(vehicle)) {
-                System.out.println("Vehicle removed successfully");
-                return true;
+    // Same as parkVehicle but without console output; returns the level used, or null if the lot is full.
+    public Level tryParkVehicle(Vehicle vehicle, Gate gate) {
+        Level[] openLevels = topology.openLevels();
+        if (openLevels.length == 0) {
+            return null;
+        }
+        int first = levelSelection.select(openLevels, vehicle.getType(), gate);
+        for (int i = 0; i < openLevels.length; i++) {
+            Level level = openLevels[(first + i) % openLevels.length];
+            if (level.parkVehicle(vehicle, gate)) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    // Parks like tryParkVehicle and returns the entry ticket id, or TicketId.NONE if the lot is full.
+    // Floors must be in 0..TicketId.MAX_FLOOR to issue tickets.
+    public long parkVehicleWithTicket(Vehicle vehicle, Gate gate) {
+        Level[] openLevels = topology.openLevels();
+        if (openLevels.length == 0) {
+            return TicketId.NONE;
+        }
+        long sequence = ticketSequencer.next(gate);
+        int first = levelSelection.select(openLevels, vehicle.getType(), gate);
+        for (int i = 0; i < openLevels.length; i++) {
+            long ticketId = openLevels[(first + i) % openLevels.length].parkVehicleWithTicket(vehicle, gate, sequence);
+            if (ticketId != TicketId.NONE) {
+                return ticketId;
             }
         }
+        return TicketId.NONE;
+    }
+
+    // The ticket names its floor and spot, so validation is a floor-indexed array read and a sequence
+    // compare; an old ticket for a spot that has since been reused is rejected.
+    public boolean isValidTicket(long ticketId) {
+        Level level = ticketLevel(ticketId);
+        return level != null && level.isTicketValid(ticketId);
+    }
+
+    // The spot the ticket holder is parked in, or null if the ticket is not valid.
+    public ParkingSpot findSpotByTicket(long ticketId) {
+        Level level = ticketLevel(ticketId);
+        return level != null && level.isTicketValid(ticketId)
+            ? level.getParkingSpot(TicketId.spotIndexOf(ticketId)) : null;
+    }
+
+    // Releases the ticket holder's spot and returns its vehicle, or null if the ticket is not valid.
+    public Vehicle removeVehicleWithTicket(long ticketId) {
+        Level level = ticketLevel(ticketId);
+        return level == null ? null : level.removeVehicleWithTicket(ticketId);
+    }
+
+    private Level ticketLevel(long ticketId) {
+        return TicketId.isWellFormed(ticketId) ? topology.getLevel(TicketId.floorOf(ticketId)) : null;
+    }
+
+    public boolean removeVehicle(Vehicle vehicle) {
+        if (tryRemoveVehicle(vehicle) != null) {
+            System.out.println("Vehicle removed successfully");
+            return true;
+        }
         System.out.println("Vehicle not found in parking lot");
         return false;
     }
 
-    public void displayAvailablity() {
+    public Level tryRemoveVehicle(Vehicle vehicle) {
+        for (Level level : topology.levels()) {
+            if (level.removeVehicle(vehicle)) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    // Parks a batch taking each level's monitor at most once: each level gets the vehicles that
+    // earlier levels could not place.
+    public BulkResult parkAll(List<Vehicle> vehicles, Gate gate) {
+        BulkResult result = new BulkResult(vehicles.size());
+        applyByLevel(topology.openLevels(), vehicles, result, (level, pending) -> level.parkAll(pending, gate));
+        return result;
+    }
+
+    // Removes a batch taking each level's monitor at most once: each level gets the vehicles not
+    // found on earlier levels.
+    public BulkResult removeAll(List<Vehicle> vehicles) {
+        BulkResult result = new BulkResult(vehicles.size());
+        applyByLevel(topology.levels(), vehicles, result, Level::removeAll);
+        return result;
+    }
+
+    private static void applyByLevel(Level[] levels, List<Vehicle> vehicles, BulkResult result,
+                                     LevelBatch batch) {
+        List<Vehicle> pending = vehicles;
+        int[] positions = new int[vehicles.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
         for (Level level : levels) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            int[] spotIndices = batch.apply(level, pending);
+            List<Vehicle> remaining = new ArrayList<>();
+            int remainingCount = 0;
+            for (int i = 0; i < spotIndices.length; i++) {
+                if (spotIndices[i] >= 0) {
+                    result.record(positions[i], level.getFloor(), spotIndices[i]);
+                } else {
+                    remaining.add(pending.get(i));
+                    positions[remainingCount++] = positions[i];
+                }
+            }
+            pending = remaining;
+        }
+    }
+
+    public void displayAvailablity() {
+        for (Level level : topology.levels()) {
             level.displayAvailablity();
         }
     }
 
     public int getParkingSpot(Vehicle vehicle) {
-        for (Level level : levels) {
-            for (ParkingSpot spot : level.getParkingSpots()) {
-                if (spot.getParkedVehicle() == vehicle) {
-                    return spot.getSpotNumber();
-                }
+        for (Level level : topology.levels()) {
+            ParkingSpot spot = level.getParkingSpot(vehicle);
+            if (spot != null) {
+                return spot.getSpotNumber();
             }
         }
         System.out.println("Vehicle not found in parking lot");
@@ -65,15 +271,55 @@ public class ParkingLot {
     }
 
     public boolean enquireAvailabilityForVehicle(Vehicle vehicle) {
-        for (Level level : levels) {
-            for (ParkingSpot spot : level.getParkingSpots()) {
-                if (spot.isAvailable() && spot.getVehicleType() == vehicle.getType()) {
-                    System.out.println("Spot available for vehicle " + vehicle.getType());
-                    return true;
-                }
+        for (Level level : topology.openLevels()) {
+            if (level.canPark(vehicle.getType())) {
+                System.out.println("Spot available for vehicle " + vehicle.getType());
+                return true;
             }
         }
         System.out.println("No spot available for vehicle");
         return false;
     }
+
+    // Quiet, lock-free variant of enquireAvailabilityForVehicle.
+    public boolean hasFreeSpot(VehicleType vehicleType) {
+        for (Level level : topology.openLevels()) {
+            if (level.canPark(vehicleType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Open levels only: a draining level has no spots to offer.
+    public AvailabilitySnapshot getAvailabilitySnapshot() {
+        Level[] openLevels = topology.openLevels();
+        List<LevelAvailability> levelAvailabilities = new ArrayList<>(openLevels.length);
+        for (Level level : openLevels) {
+            levelAvailabilities.add(level.getAvailability());
+        }
+        return new AvailabilitySnapshot(levelAvailabilities, System.currentTimeMillis());
+    }
+
+    // Must be called before the first subscription; later calls are rejected.
+    public synchronized void configureAvailabilityFeed(long coalesceMillis) {
+        if (availabilityFeed != null) {
+            throw new IllegalStateException("Availability feed is already running");
+        }
+        availabilityFeed = new AvailabilityFeed(coalesceMillis);
+        addParkingEventListener(availabilityFeed);
+    }
+
+    // Display boards subscribe here instead of polling; see AvailabilityFeed for the delivery rules.
+    public synchronized AvailabilitySubscription subscribeToAvailability(AvailabilityListener listener) {
+        if (availabilityFeed == null) {
+            configureAvailabilityFeed(DEFAULT_AVAILABILITY_COALESCE_MILLIS);
+        }
+        return availabilityFeed.subscribe(listener, topology.getOpenLevels());
+    }
+
+    @FunctionalInterface
+    private interface LevelBatch {
+        int[] apply(Level level, List<Vehicle> vehicles);
+    }
 }
\ No newline at end of file
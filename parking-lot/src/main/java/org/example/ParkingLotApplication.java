@@ -1,15 +1,22 @@
 package org.example;
 
+import org.example.facility.FacilityRegistry;
+import org.example.ticket.TicketId;
 import org.example.vehicle.Car;
 import org.example.vehicle.Motorcycle;
 import org.example.vehicle.Truck;
 import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
 
 public class ParkingLotApplication {
     public static void main(String[] args) {
-        ParkingLot parkingLot = ParkingLot.getInstance();
+        FacilityRegistry facilities = new FacilityRegistry();
+        ParkingLot parkingLot = facilities.register("downtown", 40.7128, -74.0060).getParkingLot();
         parkingLot.addLevel(new Level(0, 100));
         parkingLot.addLevel(new Level(1, 50));
+        Gate eastGate = new Gate(0, 19, 4);
+        parkingLot.addGate(eastGate);
+        facilities.register("airport", 40.6413, -73.7781).getParkingLot().addLevel(new Level(0, 10));
 
         Vehicle car = new Car("ABC123");
         Vehicle truck = new Truck("XYZ456");
@@ -18,14 +25,23 @@ public class ParkingLotApplication {
         // Park vehicles
         System.out.println(parkingLot.enquireAvailabilityForVehicle(car));
         parkingLot.parkVehicle(car);
-        parkingLot.parkVehicle(truck);
+        parkingLot.parkVehicle(truck, eastGate);
         System.out.println(parkingLot.enquireAvailabilityForVehicle(motorcycle));
         parkingLot.parkVehicle(motorcycle);
 
         parkingLot.removeVehicle(motorcycle);
+        System.out.print(parkingLot.getAvailabilitySnapshot());
 
         System.out.println(parkingLot.getParkingSpot(car));
         System.out.println(parkingLot.getParkingSpot(truck));
         System.out.println(parkingLot.getParkingSpot(motorcycle));
+
+        Vehicle van = new Car("VAN321");
+        long ticketId = parkingLot.parkVehicleWithTicket(van, eastGate);
+        System.out.println("Ticket " + TicketId.toText(ticketId) + " -> spot " + parkingLot.findSpotByTicket(ticketId).getSpotNumber());
+        parkingLot.removeVehicleWithTicket(TicketId.fromText(TicketId.toText(ticketId)));
+        System.out.println("Ticket still valid: " + parkingLot.isValidTicket(ticketId));
+
+        System.out.println(facilities.findNearestWithFreeSpot(VehicleType.TRUCK, 40.65, -73.80));
     }
 }
@@ -1,16 +1,26 @@
 package org.example;
 
+import org.example.allocation.SpotCompatibilityPolicy;
 import org.example.vehicle.Vehicle;
 import org.example.vehicle.VehicleType;
 
 public class ParkingSpot {
     private final int spotNumber;
     private final VehicleType vehicleType;
+    private final int x;
+    private final int y;
     private Vehicle parkedVehicle;
+    private long entryTime;
 
     public ParkingSpot(int spotNumber, VehicleType vehicleType) {
+        this(spotNumber, vehicleType, spotNumber, 0);
+    }
+
+    public ParkingSpot(int spotNumber, VehicleType vehicleType, int x, int y) {
         this.spotNumber = spotNumber;
         this.vehicleType = vehicleType;
+        this.x = x;
+        this.y = y;
     }
 
     public synchronized boolean isAvailable() {
@@ -18,15 +28,25 @@ public class ParkingSpot {
     }
 
     public synchronized void parkVehicle(Vehicle vehicle) {
-        if (isAvailable() && vehicle.getType() == vehicleType) {
-            parkedVehicle = vehicle;
+        parkVehicle(vehicle, SpotCompatibilityPolicy.exactMatch());
+    }
+
+    public synchronized void parkVehicle(Vehicle vehicle, SpotCompatibilityPolicy compatibilityPolicy) {
+        if (isAvailable() && compatibilityPolicy.allows(vehicle.getType(), vehicleType)) {
+            occupy(vehicle, System.currentTimeMillis());
         } else {
             throw new IllegalArgumentException("Invalid vehicle type or spot is already occupied");
         }
     }
 
+    synchronized void occupy(Vehicle vehicle, long entryTime) {
+        this.parkedVehicle = vehicle;
+        this.entryTime = entryTime;
+    }
+
     public synchronized void removeVehicle() {
         parkedVehicle = null;
+        entryTime = 0;
     }
 
     public int getSpotNumber() {
@@ -37,7 +57,23 @@ public class ParkingSpot {
         return vehicleType;
     }
 
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int distanceTo(Gate gate) {
+        return Math.abs(x - gate.getX()) + Math.abs(y - gate.getY());
+    }
+
     public Vehicle getParkedVehicle() {
         return parkedVehicle;
     }
+
+    public long getEntryTime() {
+        return entryTime;
+    }
 }
@@ -0,0 +1,32 @@
+package org.example;
+
+import org.example.vehicle.VehicleType;
+
+// Default level layout: half the spots for motorcycles, 40% for cars and the rest for trucks,
+// numbered row by row on a grid SPOTS_PER_ROW wide.
+public final class SpotLayout {
+    public static final int SPOTS_PER_ROW = 20;
+
+    private SpotLayout() {
+    }
+
+    public static VehicleType typeOf(int spotIndex, int numberOfSpots) {
+        int motorcycleSpots = (int) ((long) numberOfSpots * 50 / 100);
+        int carSpots = (int) ((long) numberOfSpots * 40 / 100);
+        if (spotIndex < motorcycleSpots) {
+            return VehicleType.MOTORCYCLE;
+        }
+        if (spotIndex < motorcycleSpots + carSpots) {
+            return VehicleType.CAR;
+        }
+        return VehicleType.TRUCK;
+    }
+
+    public static int xOf(int spotIndex) {
+        return spotIndex % SPOTS_PER_ROW;
+    }
+
+    public static int yOf(int spotIndex) {
+        return spotIndex / SPOTS_PER_ROW;
+    }
+}
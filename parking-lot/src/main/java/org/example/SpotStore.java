@@ -0,0 +1,34 @@
+package org.example;
+
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.util.List;
+
+// Per-spot state of a level, addressed by spot index. Implementations are not thread-safe;
+// Level mutates them while holding its own monitor.
+public interface SpotStore {
+    int size();
+
+    VehicleType getSpotType(int spotIndex);
+
+    int getX(int spotIndex);
+
+    int getY(int spotIndex);
+
+    boolean isAvailable(int spotIndex);
+
+    Vehicle getParkedVehicle(int spotIndex);
+
+    long getEntryTime(int spotIndex);
+
+    void parkVehicle(int spotIndex, Vehicle vehicle, long entryTime);
+
+    Vehicle removeVehicle(int spotIndex);
+
+    int findSpot(Vehicle vehicle);
+
+    ParkingSpot getSpot(int spotIndex);
+
+    List<ParkingSpot> getSpots();
+}
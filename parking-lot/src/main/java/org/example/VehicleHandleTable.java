@@ -0,0 +1,108 @@
+package org.example;
+
+import org.example.vehicle.Vehicle;
+
+import java.util.Arrays;
+
+// Interns parked vehicles into dense int handles. Lookup by vehicle identity goes through an
+// open-addressing table of handles (linear probing, backward-shift deletion), so parking and
+// unparking allocate nothing once the arrays have grown to the peak occupancy.
+class VehicleHandleTable {
+    private Vehicle[] vehicles = new Vehicle[16];
+    private int[] spotIndices = new int[16];
+    private int[] freeHandles = new int[16];
+    private int freeHandleCount;
+    private int handleCount;
+    private int[] slots = new int[32];
+    private int size;
+
+    int intern(Vehicle vehicle, int spotIndex) {
+        int handle = freeHandleCount > 0 ? freeHandles[--freeHandleCount] : newHandle();
+        vehicles[handle] = vehicle;
+        spotIndices[handle] = spotIndex;
+        if (++size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        insertSlot(handle);
+        return handle;
+    }
+
+    int find(Vehicle vehicle) {
+        int mask = slots.length - 1;
+        for (int slot = hash(vehicle) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int handle = slots[slot] - 1;
+            if (vehicles[handle] == vehicle) {
+                return handle;
+            }
+        }
+        return -1;
+    }
+
+    Vehicle vehicleOf(int handle) {
+        return vehicles[handle];
+    }
+
+    int spotOf(int handle) {
+        return spotIndices[handle];
+    }
+
+    void release(int handle) {
+        int mask = slots.length - 1;
+        int slot = hash(vehicles[handle]) & mask;
+        while (slots[slot] != handle + 1) {
+            slot = (slot + 1) & mask;
+        }
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (slots[next] == 0) {
+                break;
+            }
+            int home = hash(vehicles[slots[next] - 1]) & mask;
+            boolean movable = slot <= next ? (home <= slot || home > next) : (home <= slot && home > next);
+            if (movable) {
+                slots[slot] = slots[next];
+                slot = next;
+            }
+        }
+        slots[slot] = 0;
+        vehicles[handle] = null;
+        size--;
+        if (freeHandleCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeHandleCount * 2);
+        }
+        freeHandles[freeHandleCount++] = handle;
+    }
+
+    private int newHandle() {
+        if (handleCount == vehicles.length) {
+            vehicles = Arrays.copyOf(vehicles, handleCount * 2);
+            spotIndices = Arrays.copyOf(spotIndices, handleCount * 2);
+        }
+        return handleCount++;
+    }
+
+    private void insertSlot(int handle) {
+        int mask = slots.length - 1;
+        int slot = hash(vehicles[handle]) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = handle + 1;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldSlots = slots;
+        slots = new int[capacity];
+        for (int entry : oldSlots) {
+            if (entry != 0) {
+                insertSlot(entry - 1);
+            }
+        }
+    }
+
+    private static int hash(Vehicle vehicle) {
+        int h = System.identityHashCode(vehicle) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
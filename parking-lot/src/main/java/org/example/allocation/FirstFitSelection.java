@@ -0,0 +1,14 @@
+package org.example.allocation;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.vehicle.VehicleType;
+
+final class FirstFitSelection implements LevelSelectionStrategy {
+    static final FirstFitSelection INSTANCE = new FirstFitSelection();
+
+    @Override
+    public int select(Level[] openLevels, VehicleType vehicleType, Gate gate) {
+        return 0;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.allocation;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.vehicle.VehicleType;
+
+import java.util.Map;
+
+final class GateAffinitySelection implements LevelSelectionStrategy {
+    private final Map<Integer, Integer> floorByGateId;
+
+    GateAffinitySelection(Map<Integer, Integer> floorByGateId) {
+        this.floorByGateId = Map.copyOf(floorByGateId);
+    }
+
+    @Override
+    public int select(Level[] openLevels, VehicleType vehicleType, Gate gate) {
+        if (gate == null) {
+            return 0;
+        }
+        Integer floor = floorByGateId.get(gate.getId());
+        if (floor != null) {
+            for (int i = 0; i < openLevels.length; i++) {
+                if (openLevels[i].getFloor() == floor) {
+                    return i;
+                }
+            }
+        }
+        return Math.floorMod(gate.getId(), openLevels.length);
+    }
+}
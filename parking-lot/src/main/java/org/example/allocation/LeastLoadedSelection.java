@@ -0,0 +1,28 @@
+package org.example.allocation;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.vehicle.VehicleType;
+
+final class LeastLoadedSelection implements LevelSelectionStrategy {
+    static final LeastLoadedSelection INSTANCE = new LeastLoadedSelection();
+
+    @Override
+    public int select(Level[] openLevels, VehicleType vehicleType, Gate gate) {
+        int best = 0;
+        double bestFreeShare = -1;
+        for (int i = 0; i < openLevels.length; i++) {
+            double freeShare = freeShare(openLevels[i], vehicleType);
+            if (freeShare > bestFreeShare) {
+                best = i;
+                bestFreeShare = freeShare;
+            }
+        }
+        return best;
+    }
+
+    static double freeShare(Level level, VehicleType vehicleType) {
+        int capacity = level.getCapacityFor(vehicleType);
+        return capacity == 0 ? 0 : (double) level.getFreeSpotsFor(vehicleType) / capacity;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.allocation;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.vehicle.VehicleType;
+
+import java.util.Map;
+
+// Picks the open level a park attempt starts at. ParkingLot tries that level first and then the
+// others in order, wrapping around, so a strategy only steers load and never causes a rejection.
+// Called concurrently from every gate without locks: implementations must be thread-safe and
+// should only read the levels' lock-free counters.
+public interface LevelSelectionStrategy {
+    // Index into openLevels, which is never empty.
+    int select(Level[] openLevels, VehicleType vehicleType, Gate gate);
+
+    // Insertion order: level 0 fills first.
+    static LevelSelectionStrategy firstFit() {
+        return FirstFitSelection.INSTANCE;
+    }
+
+    // Level with the lowest occupancy for the vehicle type; reads every level's counters.
+    static LevelSelectionStrategy leastLoaded() {
+        return LeastLoadedSelection.INSTANCE;
+    }
+
+    // Less loaded of two random levels: close to least-loaded while reading only two levels.
+    static LevelSelectionStrategy twoChoices() {
+        return TwoChoicesSelection.INSTANCE;
+    }
+
+    // Each gate prefers the floor it is mapped to, or gate id modulo the open levels if unmapped;
+    // parks without a gate start at the first level.
+    static LevelSelectionStrategy gateAffinity(Map<Integer, Integer> floorByGateId) {
+        return new GateAffinitySelection(floorByGateId);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.allocation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Min-heap of spot indices keyed by distance. Entries are never removed when a spot is taken
+// through another queue; callers discard stale entries on poll (lazy deletion). The queued
+// bitset keeps at most one entry per spot, so the heap never grows past the spot count.
+public class NearestSpotQueue {
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+    private long[] heap;
+    private int size;
+    private final BitSet queued;
+
+    public NearestSpotQueue(int expectedEntries, int spotCount) {
+        this.heap = new long[Math.max(expectedEntries, 4)];
+        this.queued = new BitSet(spotCount);
+    }
+
+    public void push(int spotIndex, int distance) {
+        if (queued.get(spotIndex)) {
+            return;
+        }
+        queued.set(spotIndex);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = ((long) distance << 32) | spotIndex;
+        siftUp(size++);
+    }
+
+    public int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        long head = heap[0];
+        heap[0] = heap[--size];
+        if (size > 0) {
+            siftDown(0);
+        }
+        int spotIndex = (int) (head & INDEX_MASK);
+        queued.clear(spotIndex);
+        return spotIndex;
+    }
+
+    public boolean isQueued(int spotIndex) {
+        return queued.get(spotIndex);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void siftUp(int position) {
+        long entry = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = entry;
+    }
+
+    private void siftDown(int position) {
+        long entry = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && heap[right] < heap[child]) {
+                child = right;
+            }
+            if (entry <= heap[child]) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = entry;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.allocation;
+
+import org.example.Gate;
+import org.example.SpotStore;
+import org.example.vehicle.VehicleType;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Not thread-safe: the owning Level calls it while holding its own monitor.
+public class SpotAllocator {
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final SpotStore spotStore;
+    private final int[] spotsPerType = new int[VEHICLE_TYPES.length];
+    private final NearestSpotQueue[] defaultQueues;
+    private final BitSet reservedSpots = new BitSet();
+    private Gate[] gates = new Gate[0];
+    private NearestSpotQueue[][] gateQueues = new NearestSpotQueue[0][];
+
+    public SpotAllocator(SpotStore spotStore) {
+        this.spotStore = spotStore;
+        for (int spotIndex = 0; spotIndex < spotStore.size(); spotIndex++) {
+            spotsPerType[spotStore.getSpotType(spotIndex).ordinal()]++;
+        }
+        this.defaultQueues = createQueues();
+        for (int spotIndex = 0; spotIndex < spotStore.size(); spotIndex++) {
+            if (spotStore.isAvailable(spotIndex)) {
+                defaultQueues[spotStore.getSpotType(spotIndex).ordinal()].push(spotIndex, spotIndex);
+            }
+        }
+    }
+
+    public void addGate(Gate gate) {
+        if (gate.getId() >= gateQueues.length) {
+            int capacity = Math.max(gate.getId() + 1, gateQueues.length * 2);
+            gates = Arrays.copyOf(gates, capacity);
+            gateQueues = Arrays.copyOf(gateQueues, capacity);
+        }
+        if (gateQueues[gate.getId()] != null) {
+            return;
+        }
+        NearestSpotQueue[] queues = createQueues();
+        for (int spotIndex = 0; spotIndex < spotStore.size(); spotIndex++) {
+            if (spotStore.isAvailable(spotIndex)) {
+                queues[spotStore.getSpotType(spotIndex).ordinal()].push(spotIndex, distance(spotIndex, gate));
+            }
+        }
+        gates[gate.getId()] = gate;
+        gateQueues[gate.getId()] = queues;
+    }
+
+    public int allocate(VehicleType spotType, Gate gate) {
+        NearestSpotQueue queue = queuesFor(gate)[spotType.ordinal()];
+        int spotIndex;
+        while ((spotIndex = queue.poll()) >= 0) {
+            if (isFree(spotIndex)) {
+                return spotIndex;
+            }
+        }
+        return -1;
+    }
+
+    // A reserved spot stays free in the store but is skipped by every queue until the hold is cleared.
+    public void markReserved(int spotIndex) {
+        reservedSpots.set(spotIndex);
+    }
+
+    public void clearReserved(int spotIndex) {
+        reservedSpots.clear(spotIndex);
+    }
+
+    public boolean isReserved(int spotIndex) {
+        return reservedSpots.get(spotIndex);
+    }
+
+    private boolean isFree(int spotIndex) {
+        return spotStore.isAvailable(spotIndex) && !reservedSpots.get(spotIndex);
+    }
+
+    public void release(int spotIndex) {
+        int typeIndex = spotStore.getSpotType(spotIndex).ordinal();
+        defaultQueues[typeIndex].push(spotIndex, spotIndex);
+        for (int gateId = 0; gateId < gateQueues.length; gateId++) {
+            NearestSpotQueue[] queues = gateQueues[gateId];
+            if (queues != null && !queues[typeIndex].isQueued(spotIndex)) {
+                queues[typeIndex].push(spotIndex, distance(spotIndex, gates[gateId]));
+            }
+        }
+    }
+
+    private int distance(int spotIndex, Gate gate) {
+        return Math.abs(spotStore.getX(spotIndex) - gate.getX()) + Math.abs(spotStore.getY(spotIndex) - gate.getY());
+    }
+
+    private NearestSpotQueue[] queuesFor(Gate gate) {
+        if (gate == null || gate.getId() >= gateQueues.length || gateQueues[gate.getId()] == null) {
+            return defaultQueues;
+        }
+        return gateQueues[gate.getId()];
+    }
+
+    private NearestSpotQueue[] createQueues() {
+        NearestSpotQueue[] queues = new NearestSpotQueue[VEHICLE_TYPES.length];
+        for (VehicleType vehicleType : VEHICLE_TYPES) {
+            queues[vehicleType.ordinal()] = new NearestSpotQueue(spotsPerType[vehicleType.ordinal()], spotStore.size());
+        }
+        return queues;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.allocation;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class SpotCompatibilityPolicy {
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final SpotCompatibilityPolicy EXACT_MATCH = new SpotCompatibilityPolicy(Map.of());
+
+    private final VehicleType[][] candidateSpotTypes = new VehicleType[VEHICLE_TYPES.length][];
+    private final boolean[][] allowed = new boolean[VEHICLE_TYPES.length][VEHICLE_TYPES.length];
+
+    public SpotCompatibilityPolicy(Map<VehicleType, List<VehicleType>> fallbackOrder) {
+        for (VehicleType vehicleType : VEHICLE_TYPES) {
+            List<VehicleType> spotTypes = fallbackOrder.getOrDefault(vehicleType, List.of(vehicleType));
+            if (spotTypes.isEmpty() || spotTypes.get(0) != vehicleType) {
+                throw new IllegalArgumentException("Fallback order for " + vehicleType + " must start with " + vehicleType);
+            }
+            candidateSpotTypes[vehicleType.ordinal()] = spotTypes.toArray(new VehicleType[0]);
+            for (VehicleType spotType : spotTypes) {
+                allowed[vehicleType.ordinal()][spotType.ordinal()] = true;
+            }
+        }
+    }
+
+    public static SpotCompatibilityPolicy exactMatch() {
+        return EXACT_MATCH;
+    }
+
+    // Smaller vehicles may take larger spots: MOTORCYCLE -> CAR -> TRUCK.
+    public static SpotCompatibilityPolicy sizeCompatible() {
+        Map<VehicleType, List<VehicleType>> fallbackOrder = new EnumMap<>(VehicleType.class);
+        fallbackOrder.put(VehicleType.MOTORCYCLE, List.of(VehicleType.MOTORCYCLE, VehicleType.CAR, VehicleType.TRUCK));
+        fallbackOrder.put(VehicleType.CAR, List.of(VehicleType.CAR, VehicleType.TRUCK));
+        fallbackOrder.put(VehicleType.TRUCK, List.of(VehicleType.TRUCK));
+        return new SpotCompatibilityPolicy(fallbackOrder);
+    }
+
+    public VehicleType[] getCandidateSpotTypes(VehicleType vehicleType) {
+        return candidateSpotTypes[vehicleType.ordinal()];
+    }
+
+    public boolean allows(VehicleType vehicleType, VehicleType spotType) {
+        return allowed[vehicleType.ordinal()][spotType.ordinal()];
+    }
+}
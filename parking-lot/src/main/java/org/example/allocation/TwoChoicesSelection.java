@@ -0,0 +1,26 @@
+package org.example.allocation;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.vehicle.VehicleType;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class TwoChoicesSelection implements LevelSelectionStrategy {
+    static final TwoChoicesSelection INSTANCE = new TwoChoicesSelection();
+
+    @Override
+    public int select(Level[] openLevels, VehicleType vehicleType, Gate gate) {
+        if (openLevels.length == 1) {
+            return 0;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(openLevels.length);
+        int second = random.nextInt(openLevels.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        return LeastLoadedSelection.freeShare(openLevels[first], vehicleType)
+            >= LeastLoadedSelection.freeShare(openLevels[second], vehicleType) ? first : second;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.analytics;
+
+// Fixed dwell-time buckets in minutes, fine-grained for short stays and coarse for long ones.
+final class DwellHistogram {
+    static final int[] UPPER_BOUND_MINUTES = {
+        1, 2, 3, 4, 5, 6, 8, 10, 12, 15, 20, 25, 30, 40, 50, 60, 75, 90, 105, 120, 150, 180, 210, 240,
+        300, 360, 420, 480, 600, 720, 900, 1080, 1440, 2160, 2880, 4320, Integer.MAX_VALUE
+    };
+    static final int BUCKETS = UPPER_BOUND_MINUTES.length;
+
+    private DwellHistogram() {
+    }
+
+    static int bucketOf(long dwellMillis) {
+        long minutes = Math.ceilDiv(Math.max(dwellMillis, 1), 60_000L);
+        int low = 0;
+        int high = BUCKETS - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (minutes <= UPPER_BOUND_MINUTES[middle]) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    // Upper bound in minutes of the bucket holding the given percentile, or 0 for an empty histogram.
+    static int percentile(int[] counts, double percentile) {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return UPPER_BOUND_MINUTES[bucket];
+            }
+        }
+        return UPPER_BOUND_MINUTES[BUCKETS - 1];
+    }
+}
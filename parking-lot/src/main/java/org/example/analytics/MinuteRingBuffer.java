@@ -0,0 +1,108 @@
+package org.example.analytics;
+
+import java.util.Arrays;
+
+// One level and vehicle type: a ring of per-minute counters covering the last `minutes` minutes.
+// A slot is lazily reset when an event for a newer minute lands on it. Writes happen under the
+// level's monitor (listener contract); readers take unsynchronized, possibly slightly stale, values.
+final class MinuteRingBuffer {
+    private final int minutes;
+    private final long[] minuteOfSlot;
+    private final int[] arrivals;
+    private final int[] departures;
+    private final int[] occupancy;
+    private final int[] peakOccupancy;
+    private final long[] dwellMillis;
+    private final int[] dwellHistogram;
+
+    MinuteRingBuffer(int minutes) {
+        this.minutes = minutes;
+        this.minuteOfSlot = new long[minutes];
+        this.arrivals = new int[minutes];
+        this.departures = new int[minutes];
+        this.occupancy = new int[minutes];
+        this.peakOccupancy = new int[minutes];
+        this.dwellMillis = new long[minutes];
+        this.dwellHistogram = new int[minutes * DwellHistogram.BUCKETS];
+        Arrays.fill(minuteOfSlot, -1);
+    }
+
+    void recordArrival(long minute, int currentOccupancy) {
+        int slot = slotFor(minute);
+        arrivals[slot]++;
+        occupancy[slot] = currentOccupancy;
+        peakOccupancy[slot] = Math.max(peakOccupancy[slot], currentOccupancy);
+    }
+
+    void recordDeparture(long minute, int currentOccupancy, long dwell) {
+        int slot = slotFor(minute);
+        departures[slot]++;
+        occupancy[slot] = currentOccupancy;
+        dwellMillis[slot] += dwell;
+        dwellHistogram[slot * DwellHistogram.BUCKETS + DwellHistogram.bucketOf(dwell)]++;
+    }
+
+    // Copies the window ending at lastMinute (inclusive) into the result. The occupancy series holds
+    // the count at the end of each minute; minutes without events carry the previous value forward.
+    OccupancyWindow read(long lastMinute, int windowMinutes, int currentOccupancy) {
+        int length = Math.min(windowMinutes, minutes);
+        long firstMinute = lastMinute - length + 1;
+        int[] occupancySeries = new int[length];
+        int[] peakSeries = new int[length];
+        int[] arrivalSeries = new int[length];
+        int[] departureSeries = new int[length];
+        int[] histogram = new int[DwellHistogram.BUCKETS];
+        long totalDwellMillis = 0;
+        int lastOccupancy = -1;
+        for (int i = 0; i < length; i++) {
+            long minute = firstMinute + i;
+            int slot = Math.floorMod(minute, minutes);
+            if (minuteOfSlot[slot] == minute) {
+                arrivalSeries[i] = arrivals[slot];
+                departureSeries[i] = departures[slot];
+                totalDwellMillis += dwellMillis[slot];
+                for (int bucket = 0; bucket < DwellHistogram.BUCKETS; bucket++) {
+                    histogram[bucket] += dwellHistogram[slot * DwellHistogram.BUCKETS + bucket];
+                }
+                peakSeries[i] = peakOccupancy[slot];
+                lastOccupancy = occupancy[slot];
+            }
+            occupancySeries[i] = lastOccupancy;
+        }
+        backfillOccupancy(occupancySeries, currentOccupancy);
+        for (int i = 0; i < length; i++) {
+            peakSeries[i] = Math.max(peakSeries[i], occupancySeries[i]);
+        }
+        return new OccupancyWindow(firstMinute, occupancySeries, peakSeries, arrivalSeries, departureSeries, totalDwellMillis,
+            histogram);
+    }
+
+    private int slotFor(long minute) {
+        int slot = Math.floorMod(minute, minutes);
+        if (minuteOfSlot[slot] != minute) {
+            minuteOfSlot[slot] = minute;
+            arrivals[slot] = 0;
+            departures[slot] = 0;
+            peakOccupancy[slot] = 0;
+            dwellMillis[slot] = 0;
+            Arrays.fill(dwellHistogram, slot * DwellHistogram.BUCKETS, (slot + 1) * DwellHistogram.BUCKETS, 0);
+        }
+        return slot;
+    }
+
+    // Leading minutes before the first recorded event take the first known value, or the current
+    // occupancy if nothing happened inside the window at all.
+    private static void backfillOccupancy(int[] series, int currentOccupancy) {
+        int firstKnown = -1;
+        for (int value : series) {
+            if (value >= 0) {
+                firstKnown = value;
+                break;
+            }
+        }
+        int fill = firstKnown >= 0 ? firstKnown : currentOccupancy;
+        for (int i = 0; i < series.length && series[i] < 0; i++) {
+            series[i] = fill;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.analytics;
+
+import org.example.Level;
+import org.example.ParkingEventListener;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Feeds per-level, per-vehicle-type minute ring buffers from park and unpark events. Recording is
+// a map lookup and a handful of array increments made under the level's monitor, with no allocation
+// once a level has been seen.
+public class OccupancyRecorder implements ParkingEventListener {
+    public static final int MINUTES_PER_HOUR = 60;
+    public static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final int retainedMinutes;
+    private final Map<Level, MinuteRingBuffer[]> buffersByLevel = new ConcurrentHashMap<>();
+    private final Map<Integer, Level> levelsByFloor = new ConcurrentHashMap<>();
+
+    public OccupancyRecorder() {
+        this(MINUTES_PER_DAY);
+    }
+
+    public OccupancyRecorder(int retainedMinutes) {
+        this.retainedMinutes = retainedMinutes;
+    }
+
+    @Override
+    public void onVehicleParked(Level level, int spotIndex, Vehicle vehicle, long entryTime) {
+        VehicleType vehicleType = vehicle.getType();
+        buffersFor(level)[vehicleType.ordinal()].recordArrival(entryTime / MILLIS_PER_MINUTE,
+            level.getParkedVehicles(vehicleType));
+    }
+
+    @Override
+    public void onVehicleRemoved(Level level, int spotIndex, Vehicle vehicle, long entryTime, long exitTime) {
+        VehicleType vehicleType = vehicle.getType();
+        buffersFor(level)[vehicleType.ordinal()].recordDeparture(exitTime / MILLIS_PER_MINUTE,
+            level.getParkedVehicles(vehicleType), exitTime - entryTime);
+    }
+
+    public OccupancyWindow lastHour(int floor, VehicleType vehicleType) {
+        return window(floor, vehicleType, MINUTES_PER_HOUR, System.currentTimeMillis());
+    }
+
+    public OccupancyWindow lastDay(int floor, VehicleType vehicleType) {
+        return window(floor, vehicleType, MINUTES_PER_DAY, System.currentTimeMillis());
+    }
+
+    public OccupancyWindow window(int floor, VehicleType vehicleType, int minutes, long nowMillis) {
+        Level level = levelsByFloor.get(floor);
+        if (level == null) {
+            throw new IllegalArgumentException("No occupancy recorded for floor " + floor);
+        }
+        return buffersFor(level)[vehicleType.ordinal()].read(nowMillis / MILLIS_PER_MINUTE, minutes,
+            level.getParkedVehicles(vehicleType));
+    }
+
+    private MinuteRingBuffer[] buffersFor(Level level) {
+        MinuteRingBuffer[] buffers = buffersByLevel.get(level);
+        if (buffers != null) {
+            return buffers;
+        }
+        return buffersByLevel.computeIfAbsent(level, key -> {
+            MinuteRingBuffer[] created = new MinuteRingBuffer[VEHICLE_TYPES.length];
+            for (VehicleType vehicleType : VEHICLE_TYPES) {
+                created[vehicleType.ordinal()] = new MinuteRingBuffer(retainedMinutes);
+            }
+            levelsByFloor.put(key.getFloor(), key);
+            return created;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.analytics;
+
+public class OccupancyWindow {
+    private final long firstMinute;
+    private final int[] occupancy;
+    private final int[] peakOccupancy;
+    private final int[] arrivals;
+    private final int[] departures;
+    private final long totalDwellMillis;
+    private final int[] dwellHistogram;
+
+    OccupancyWindow(long firstMinute, int[] occupancy, int[] peakOccupancy, int[] arrivals, int[] departures,
+                    long totalDwellMillis, int[] dwellHistogram) {
+        this.firstMinute = firstMinute;
+        this.occupancy = occupancy;
+        this.peakOccupancy = peakOccupancy;
+        this.arrivals = arrivals;
+        this.departures = departures;
+        this.totalDwellMillis = totalDwellMillis;
+        this.dwellHistogram = dwellHistogram;
+    }
+
+    public long getFirstMinuteEpochMillis() {
+        return firstMinute * 60_000;
+    }
+
+    public int getMinutes() {
+        return occupancy.length;
+    }
+
+    public int[] getOccupancy() {
+        return occupancy.clone();
+    }
+
+    public int[] getPeakOccupancySeries() {
+        return peakOccupancy.clone();
+    }
+
+    public int[] getArrivals() {
+        return arrivals.clone();
+    }
+
+    public int[] getDepartures() {
+        return departures.clone();
+    }
+
+    public int getTotalArrivals() {
+        return sum(arrivals);
+    }
+
+    public int getTotalDepartures() {
+        return sum(departures);
+    }
+
+    public int getPeakOccupancy() {
+        int peak = 0;
+        for (int value : peakOccupancy) {
+            peak = Math.max(peak, value);
+        }
+        return peak;
+    }
+
+    // Departures per spot over the window.
+    public double getTurnover(int spots) {
+        return spots == 0 ? 0 : (double) getTotalDepartures() / spots;
+    }
+
+    public double getAverageDwellMinutes() {
+        int departed = getTotalDepartures();
+        return departed == 0 ? 0 : totalDwellMillis / 60_000.0 / departed;
+    }
+
+    // Upper bound, in minutes, of the dwell-time bucket holding the percentile (0-100).
+    public int getDwellPercentileMinutes(double percentile) {
+        return DwellHistogram.percentile(dwellHistogram, percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d min: arrivals=%d, departures=%d, peak occupancy=%d, avg dwell=%.1f min, "
+                + "p50/p90/p99 dwell<=%d/%d/%d min", getMinutes(), getTotalArrivals(), getTotalDepartures(),
+            getPeakOccupancy(), getAverageDwellMinutes(), getDwellPercentileMinutes(50),
+            getDwellPercentileMinutes(90), getDwellPercentileMinutes(99));
+    }
+
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.availability.AvailabilitySnapshot;
+import org.example.availability.LevelAvailability;
+import org.example.plate.ParkedVehicle;
+import org.example.plate.PlateClaim;
+import org.example.plate.PlateIndex;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleFactory;
+import org.example.vehicle.VehicleType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// HTTP API for gate controllers, served from one virtual thread per request:
+//   POST /park          plate=..&type=CAR|MOTORCYCLE|TRUCK[&gate=id]   201, or 409 when full
+//   POST /exit          plate=..                                        200, or 404
+//   GET  /vehicles/{plate}                                              200, or 404
+//   GET  /availability                                                  200
+// Form fields may be sent as the request body or as the query string. Responses are small JSON
+// documents. Gates must be registered on the lot before the server is created.
+public class GateApiServer implements AutoCloseable {
+    private static final int READ_BUFFER_BYTES = 256;
+    private static final String JSON = "application/json";
+
+    // The JDK server writes headers and body separately; with Nagle's algorithm on, the body then
+    // waits for the client's delayed ACK (~40 ms on Linux). The setting is read once per JVM, when
+    // the first HttpServer is created, and an explicit -D value wins.
+    static {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ParkingLot parkingLot;
+    private final PlateIndex plateIndex;
+    private final Gate[] gatesById;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public GateApiServer(ParkingLot parkingLot, InetSocketAddress address) throws IOException {
+        this.parkingLot = parkingLot;
+        this.plateIndex = PlateIndex.attachTo(parkingLot);
+        int maxGateId = -1;
+        for (Gate gate : parkingLot.getGates()) {
+            maxGateId = Math.max(maxGateId, gate.getId());
+        }
+        this.gatesById = new Gate[maxGateId + 1];
+        for (Gate gate : parkingLot.getGates()) {
+            gatesById[gate.getId()] = gate;
+        }
+        this.server = HttpServer.create(address, 1024);
+        server.setExecutor(executor);
+        server.createContext("/park", exchange -> handle(exchange, "POST", this::park));
+        server.createContext("/exit", exchange -> handle(exchange, "POST", this::exit));
+        server.createContext("/vehicles/", exchange -> handle(exchange, "GET", this::lookup));
+        server.createContext("/availability", exchange -> handle(exchange, "GET", this::availability));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void park(HttpExchange exchange) throws IOException {
+        GateRequest request = readForm(exchange);
+        if (request.getLicensePlate() == null || request.getVehicleType() == null) {
+            respond(exchange, 400, error("plate and type are required"));
+            return;
+        }
+        Gate gate = null;
+        if (request.getGateId() >= 0) {
+            gate = request.getGateId() < gatesById.length ? gatesById[request.getGateId()] : null;
+            if (gate == null) {
+                respond(exchange, 400, error("unknown gate"));
+                return;
+            }
+        }
+        // The claim makes the duplicate check and the park one step for this plate. It is released
+        // before the 201 goes out, by which time the index already lists the parked vehicle.
+        ParkedVehicle parkedVehicle;
+        try (PlateClaim claim = plateIndex.claim(request.getLicensePlate())) {
+            if (claim == null) {
+                respond(exchange, 409, error("vehicle already parked"));
+                return;
+            }
+            Vehicle vehicle = VehicleFactory.createVehicle(request.getVehicleType(), request.getLicensePlate());
+            if (parkingLot.tryParkVehicle(vehicle, gate) == null) {
+                respond(exchange, 409, error("no spot available"));
+                return;
+            }
+            parkedVehicle = claim.getParkedVehicle();
+        }
+        respond(exchange, 201, toJson(parkedVehicle));
+    }
+
+    private void exit(HttpExchange exchange) throws IOException {
+        GateRequest request = readForm(exchange);
+        if (request.getLicensePlate() == null) {
+            respond(exchange, 400, error("plate is required"));
+            return;
+        }
+        ParkedVehicle parkedVehicle = plateIndex.find(request.getLicensePlate());
+        Level level = parkedVehicle == null ? null : parkingLot.getLevel(parkedVehicle.floor());
+        if (level == null || !level.removeVehicle(parkedVehicle.vehicle())) {
+            respond(exchange, 404, error("vehicle not found"));
+            return;
+        }
+        respond(exchange, 200, toJson(parkedVehicle));
+    }
+
+    private void lookup(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        ParkedVehicle parkedVehicle = plateIndex.find(path.substring(path.lastIndexOf('/') + 1));
+        if (parkedVehicle == null) {
+            respond(exchange, 404, error("vehicle not found"));
+            return;
+        }
+        respond(exchange, 200, toJson(parkedVehicle));
+    }
+
+    private void availability(HttpExchange exchange) throws IOException {
+        AvailabilitySnapshot snapshot = parkingLot.getAvailabilitySnapshot();
+        StringBuilder json = new StringBuilder(64 + 96 * snapshot.getLevels().size());
+        json.append("{\"takenAt\":").append(snapshot.getTakenAtMillis()).append(",\"levels\":[");
+        for (int i = 0; i < snapshot.getLevels().size(); i++) {
+            LevelAvailability level = snapshot.getLevels().get(i);
+            json.append(i == 0 ? "" : ",").append("{\"floor\":").append(level.getFloor());
+            for (VehicleType vehicleType : VehicleType.values()) {
+                json.append(",\"").append(vehicleType).append("\":{\"free\":")
+                    .append(level.getFreeSpots(vehicleType)).append(",\"total\":")
+                    .append(level.getTotalSpots(vehicleType)).append('}');
+            }
+            json.append('}');
+        }
+        respond(exchange, 200, json.append("]}").toString());
+    }
+
+    private static GateRequest readForm(HttpExchange exchange) throws IOException {
+        GateRequest request = new GateRequest();
+        request.acceptAll(exchange.getRequestURI().getRawQuery());
+        request.accept('&');
+        byte[] buffer = new byte[READ_BUFFER_BYTES];
+        try (InputStream body = exchange.getRequestBody()) {
+            int read;
+            while ((read = body.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    request.accept(buffer[i] & 0xFF);
+                }
+            }
+        }
+        request.finish();
+        return request;
+    }
+
+    private static void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        // The 400 is written inside the try, before the exchange is closed.
+        try (exchange) {
+            if (!method.equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, error("use " + method));
+                return;
+            }
+            try {
+                endpoint.serve(exchange);
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 400, error(e.getMessage()));
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String toJson(ParkedVehicle parkedVehicle) {
+        return "{\"plate\":\"" + escape(parkedVehicle.vehicle().getLicensePlate()) + "\",\"type\":\""
+            + parkedVehicle.vehicle().getType() + "\",\"floor\":" + parkedVehicle.floor() + ",\"spot\":"
+            + parkedVehicle.spotIndex() + ",\"entryTime\":" + parkedVehicle.entryTime() + "}";
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"" + escape(message) + "\"}";
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(text.length() + 8).append(text, 0, i);
+                }
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+
+    @FunctionalInterface
+    private interface Endpoint {
+        void serve(HttpExchange exchange) throws IOException;
+    }
+}
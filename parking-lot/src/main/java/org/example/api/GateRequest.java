@@ -0,0 +1,160 @@
+package org.example.api;
+
+import org.example.vehicle.VehicleType;
+
+import java.nio.charset.StandardCharsets;
+
+// Form fields of a gate request (plate, type, gate), parsed one byte at a time from either a
+// query string or a request body. Only the plate becomes a String; the vehicle type is matched
+// against the enum names in place and the gate id is accumulated as an int.
+final class GateRequest {
+    private static final int MAX_KEY_BYTES = 8;
+    private static final int MAX_VALUE_BYTES = 32;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final byte[][] VEHICLE_TYPE_NAMES = new byte[VEHICLE_TYPES.length][];
+
+    static {
+        for (VehicleType vehicleType : VEHICLE_TYPES) {
+            VEHICLE_TYPE_NAMES[vehicleType.ordinal()] = vehicleType.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final byte[] key = new byte[MAX_KEY_BYTES];
+    private final byte[] value = new byte[MAX_VALUE_BYTES];
+    private int keyLength;
+    private int valueLength;
+    private boolean inValue;
+    private int pendingHex = -1;
+    private int escapedByte;
+
+    private String licensePlate;
+    private VehicleType vehicleType;
+    private int gateId = -1;
+
+    void accept(int b) {
+        if (b == '&') {
+            endField();
+        } else if (b == '=' && !inValue) {
+            inValue = true;
+        } else if (pendingHex >= 0) {
+            escapedByte = escapedByte << 4 | hexValue(b);
+            if (++pendingHex == 2) {
+                pendingHex = -1;
+                append(escapedByte);
+            }
+        } else if (b == '%') {
+            pendingHex = 0;
+            escapedByte = 0;
+        } else {
+            append(b == '+' ? ' ' : b);
+        }
+    }
+
+    void acceptAll(CharSequence query) {
+        if (query != null) {
+            for (int i = 0; i < query.length(); i++) {
+                accept(query.charAt(i));
+            }
+        }
+    }
+
+    void finish() {
+        if (pendingHex >= 0) {
+            throw new IllegalArgumentException("Truncated escape sequence");
+        }
+        endField();
+    }
+
+    String getLicensePlate() {
+        return licensePlate;
+    }
+
+    VehicleType getVehicleType() {
+        return vehicleType;
+    }
+
+    int getGateId() {
+        return gateId;
+    }
+
+    private void append(int b) {
+        if (inValue) {
+            if (valueLength == MAX_VALUE_BYTES) {
+                throw new IllegalArgumentException("Field value too long");
+            }
+            value[valueLength++] = (byte) b;
+        } else if (keyLength < MAX_KEY_BYTES) {
+            key[keyLength++] = (byte) b;
+        } else {
+            keyLength = MAX_KEY_BYTES + 1;
+        }
+    }
+
+    private void endField() {
+        if (keyIs("plate")) {
+            if (valueLength == 0) {
+                throw new IllegalArgumentException("Empty plate");
+            }
+            licensePlate = new String(value, 0, valueLength, StandardCharsets.US_ASCII);
+        } else if (keyIs("type")) {
+            vehicleType = parseVehicleType();
+        } else if (keyIs("gate")) {
+            gateId = parseGateId();
+        }
+        keyLength = 0;
+        valueLength = 0;
+        inValue = false;
+    }
+
+    private boolean keyIs(String name) {
+        if (keyLength != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyLength; i++) {
+            if (key[i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private VehicleType parseVehicleType() {
+        for (VehicleType candidate : VEHICLE_TYPES) {
+            byte[] name = VEHICLE_TYPE_NAMES[candidate.ordinal()];
+            if (name.length != valueLength) {
+                continue;
+            }
+            int i = 0;
+            while (i < valueLength && (value[i] & 0xDF) == name[i]) {
+                i++;
+            }
+            if (i == valueLength) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown vehicle type");
+    }
+
+    private int parseGateId() {
+        if (valueLength == 0 || valueLength > 9) {
+            throw new IllegalArgumentException("Invalid gate id");
+        }
+        int id = 0;
+        for (int i = 0; i < valueLength; i++) {
+            int digit = value[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid gate id");
+            }
+            id = id * 10 + digit;
+        }
+        return id;
+    }
+
+    private static int hexValue(int b) {
+        int digit = Character.digit(b, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid escape sequence");
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.availability;
+
+import org.example.vehicle.VehicleType;
+
+// Latest free/total spot count of one spot type on one floor.
+public record AvailabilityChange(int floor, VehicleType spotType, int freeSpots, int totalSpots) {
+}
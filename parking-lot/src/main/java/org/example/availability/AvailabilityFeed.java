@@ -0,0 +1,133 @@
+package org.example.availability;
+
+import org.example.Level;
+import org.example.ParkingEventListener;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Pushes availability changes to subscribers. A park or unpark only marks its level dirty; the
+// first mark schedules a flush coalesceMillis later, which reads the level counters (no lock),
+// diffs them against what was last published and hands the changes to every subscription.
+// Each subscription delivers on its own virtual thread.
+public class AvailabilityFeed implements ParkingEventListener, AutoCloseable {
+    private static final VehicleType[] SPOT_TYPES = VehicleType.values();
+
+    private final long coalesceMillis;
+    private final Set<Level> dirtyLevels = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Map<Integer, int[]> publishedFreeSpots = new ConcurrentHashMap<>();
+    private final List<AvailabilitySubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AvailabilityFeed(long coalesceMillis) {
+        if (coalesceMillis < 0) {
+            throw new IllegalArgumentException("Coalescing interval must not be negative");
+        }
+        this.coalesceMillis = coalesceMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "availability-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // The first batch a new subscriber receives lists every spot type on the given levels. It starts
+    // from the published values, so later flushes diff against exactly what this subscriber was told;
+    // a spot type never published yet is read live and stays unknown, so its next flush goes out.
+    // Subscribing and flushing are serialized, so that batch is never overtaken by an older flush.
+    public synchronized AvailabilitySubscription subscribe(AvailabilityListener listener, List<Level> levels) {
+        AvailabilitySubscription subscription = new AvailabilitySubscription(this, listener, deliveryExecutor);
+        subscriptions.add(subscription);
+        List<AvailabilityChange> current = new ArrayList<>();
+        for (Level level : levels) {
+            LevelAvailability availability = level.getAvailability();
+            int[] published = publishedFreeSpots.get(level.getFloor());
+            for (VehicleType spotType : SPOT_TYPES) {
+                int freeSpots = published == null || published[spotType.ordinal()] < 0
+                    ? availability.getFreeSpots(spotType) : published[spotType.ordinal()];
+                current.add(new AvailabilityChange(level.getFloor(), spotType, freeSpots,
+                    availability.getTotalSpots(spotType)));
+            }
+        }
+        subscription.offer(current);
+        return subscription;
+    }
+
+    public long getCoalesceMillis() {
+        return coalesceMillis;
+    }
+
+    @Override
+    public void onVehicleParked(Level level, int spotIndex, Vehicle vehicle, long entryTime) {
+        markDirty(level);
+    }
+
+    @Override
+    public void onVehicleRemoved(Level level, int spotIndex, Vehicle vehicle, long entryTime, long exitTime) {
+        markDirty(level);
+    }
+
+    @Override
+    public void onReservationChanged(Level level, int spotIndex, boolean reserved) {
+        markDirty(level);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        deliveryExecutor.shutdown();
+    }
+
+    void unsubscribe(AvailabilitySubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    private void markDirty(Level level) {
+        if (dirtyLevels.add(level) && flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void flush() {
+        flushScheduled.set(false);
+        List<AvailabilityChange> changes = new ArrayList<>();
+        for (Level level : dirtyLevels) {
+            dirtyLevels.remove(level);
+            LevelAvailability availability = level.getAvailability();
+            int[] published = publishedFreeSpots.computeIfAbsent(level.getFloor(), floor -> unknown());
+            for (VehicleType spotType : SPOT_TYPES) {
+                int freeSpots = availability.getFreeSpots(spotType);
+                if (published[spotType.ordinal()] != freeSpots) {
+                    published[spotType.ordinal()] = freeSpots;
+                    changes.add(new AvailabilityChange(level.getFloor(), spotType, freeSpots,
+                        availability.getTotalSpots(spotType)));
+                }
+            }
+        }
+        if (!changes.isEmpty()) {
+            for (AvailabilitySubscription subscription : subscriptions) {
+                subscription.offer(changes);
+            }
+        }
+    }
+
+    private static int[] unknown() {
+        int[] freeSpots = new int[SPOT_TYPES.length];
+        Arrays.fill(freeSpots, -1);
+        return freeSpots;
+    }
+}
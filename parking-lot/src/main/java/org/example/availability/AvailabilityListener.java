@@ -0,0 +1,10 @@
+package org.example.availability;
+
+import java.util.List;
+
+// Receives coalesced availability changes on a feed delivery thread, never on a thread holding a
+// level monitor. Calls for one subscription never overlap.
+@FunctionalInterface
+public interface AvailabilityListener {
+    void onAvailabilityChanged(List<AvailabilityChange> changes);
+}
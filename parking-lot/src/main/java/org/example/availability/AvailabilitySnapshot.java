@@ -0,0 +1,48 @@
+package org.example.availability;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.List;
+
+public class AvailabilitySnapshot {
+    private final List<LevelAvailability> levels;
+    private final long takenAtMillis;
+
+    public AvailabilitySnapshot(List<LevelAvailability> levels, long takenAtMillis) {
+        this.levels = List.copyOf(levels);
+        this.takenAtMillis = takenAtMillis;
+    }
+
+    public List<LevelAvailability> getLevels() {
+        return levels;
+    }
+
+    public long getTakenAtMillis() {
+        return takenAtMillis;
+    }
+
+    public int getFreeSpots(VehicleType vehicleType) {
+        int free = 0;
+        for (LevelAvailability level : levels) {
+            free += level.getFreeSpots(vehicleType);
+        }
+        return free;
+    }
+
+    public int getTotalSpots(VehicleType vehicleType) {
+        int total = 0;
+        for (LevelAvailability level : levels) {
+            total += level.getTotalSpots(vehicleType);
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (LevelAvailability level : levels) {
+            builder.append(level).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.availability;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Per-subscriber mailbox holding only the latest change per floor and spot type, so a slow
+// subscriber receives one merged batch when it catches up instead of a growing backlog.
+public class AvailabilitySubscription {
+    private static final Comparator<AvailabilityChange> ORDER =
+        Comparator.comparingInt(AvailabilityChange::floor).thenComparing(AvailabilityChange::spotType);
+
+    private final AvailabilityFeed feed;
+    private final AvailabilityListener listener;
+    private final Executor executor;
+    private final Map<Long, AvailabilityChange> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean delivering = new AtomicBoolean();
+    private volatile boolean cancelled;
+
+    AvailabilitySubscription(AvailabilityFeed feed, AvailabilityListener listener, Executor executor) {
+        this.feed = feed;
+        this.listener = listener;
+        this.executor = executor;
+    }
+
+    public void cancel() {
+        cancelled = true;
+        pending.clear();
+        feed.unsubscribe(this);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void offer(List<AvailabilityChange> changes) {
+        if (cancelled) {
+            return;
+        }
+        for (AvailabilityChange change : changes) {
+            pending.put(key(change), change);
+        }
+        scheduleDelivery();
+    }
+
+    private void scheduleDelivery() {
+        if (!pending.isEmpty() && delivering.compareAndSet(false, true)) {
+            executor.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        try {
+            List<AvailabilityChange> batch = new ArrayList<>(pending.size());
+            for (Long key : pending.keySet()) {
+                AvailabilityChange change = pending.remove(key);
+                if (change != null) {
+                    batch.add(change);
+                }
+            }
+            if (!batch.isEmpty() && !cancelled) {
+                batch.sort(ORDER);
+                listener.onAvailabilityChanged(batch);
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Availability subscriber failed: " + e);
+        } finally {
+            delivering.set(false);
+            scheduleDelivery();
+        }
+    }
+
+    private static long key(AvailabilityChange change) {
+        return ((long) change.floor() << 32) | change.spotType().ordinal();
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.availability;
+
+import org.example.vehicle.VehicleType;
+
+public class LevelAvailability {
+    private final int floor;
+    private final int[] freeSpots;
+    private final int[] totalSpots;
+    private final int[] parkedVehicles;
+
+    public LevelAvailability(int floor, int[] freeSpots, int[] totalSpots, int[] parkedVehicles) {
+        this.floor = floor;
+        this.freeSpots = freeSpots.clone();
+        this.totalSpots = totalSpots.clone();
+        this.parkedVehicles = parkedVehicles.clone();
+    }
+
+    public int getFloor() {
+        return floor;
+    }
+
+    public int getFreeSpots(VehicleType vehicleType) {
+        return freeSpots[vehicleType.ordinal()];
+    }
+
+    public int getTotalSpots(VehicleType vehicleType) {
+        return totalSpots[vehicleType.ordinal()];
+    }
+
+    public int getParkedVehicles(VehicleType vehicleType) {
+        return parkedVehicles[vehicleType.ordinal()];
+    }
+
+    public boolean hasFreeSpot(VehicleType vehicleType) {
+        return freeSpots[vehicleType.ordinal()] > 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Floor ").append(floor).append(':');
+        for (VehicleType vehicleType : VehicleType.values()) {
+            builder.append(' ').append(vehicleType).append('=')
+                .append(getFreeSpots(vehicleType)).append('/').append(getTotalSpots(vehicleType));
+        }
+        return builder.toString();
+    }
+}
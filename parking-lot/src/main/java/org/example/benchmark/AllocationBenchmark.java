@@ -0,0 +1,111 @@
+package org.example.benchmark;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingSpot;
+import org.example.allocation.SpotCompatibilityPolicy;
+import org.example.vehicle.Car;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Compares the original first-free-spot scan with the gate-aware nearest-spot allocator.
+// Each round fills a batch of car spots on a mostly occupied level (timed) and then empties it again (untimed).
+public class AllocationBenchmark {
+    private static final int SPOTS = 20_000;
+    private static final int GATES = 32;
+    private static final double PREFILL = 0.9;
+    private static final int BATCH = 500;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 20;
+
+    public static void main(String[] args) {
+        Level scanLevel = new Level(0, SPOTS, SpotCompatibilityPolicy.exactMatch());
+        Level gatedLevel = new Level(1, SPOTS, SpotCompatibilityPolicy.exactMatch());
+        List<Gate> gates = new ArrayList<>();
+        for (int i = 0; i < GATES; i++) {
+            Gate gate = new Gate(i, (i * 7) % 20, (i * 131) % (SPOTS / 20));
+            gates.add(gate);
+            gatedLevel.addGate(gate);
+        }
+        prefill(scanLevel, gatedLevel);
+
+        Random random = new Random(42);
+        long scanNanos = 0;
+        long gatedNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            List<Vehicle> batch = newBatch(round);
+            long scan = runScanRound(scanLevel, batch);
+            long gated = runGatedRound(gatedLevel, batch, gates.get(random.nextInt(GATES)));
+            if (round >= WARMUP_ROUNDS) {
+                scanNanos += scan;
+                gatedNanos += gated;
+            }
+        }
+
+        long operations = (long) MEASURED_ROUNDS * BATCH;
+        System.out.printf("Spots: %d, gates: %d, prefill: %.0f%%%n", SPOTS, GATES, PREFILL * 100);
+        System.out.printf("First-free scan:     %,d ns/park%n", scanNanos / operations);
+        System.out.printf("Nearest-spot heaps:  %,d ns/park%n", gatedNanos / operations);
+    }
+
+    private static void prefill(Level scanLevel, Level gatedLevel) {
+        int carSpots = scanLevel.getTotalSpots(VehicleType.CAR);
+        int prefilled = (int) (carSpots * PREFILL);
+        for (int i = 0; i < prefilled; i++) {
+            Vehicle car = new Car("PRE" + i);
+            scanPark(scanLevel, car);
+            gatedLevel.parkVehicle(car);
+        }
+    }
+
+    private static List<Vehicle> newBatch(int round) {
+        List<Vehicle> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            batch.add(new Car("R" + round + "-" + i));
+        }
+        return batch;
+    }
+
+    private static long runScanRound(Level level, List<Vehicle> batch) {
+        long start = System.nanoTime();
+        for (Vehicle vehicle : batch) {
+            scanPark(level, vehicle);
+        }
+        long elapsed = System.nanoTime() - start;
+        for (ParkingSpot spot : level.getParkingSpots()) {
+            if (!spot.isAvailable() && batch.contains(spot.getParkedVehicle())) {
+                spot.removeVehicle();
+            }
+        }
+        return elapsed;
+    }
+
+    private static long runGatedRound(Level level, List<Vehicle> batch, Gate gate) {
+        long start = System.nanoTime();
+        for (Vehicle vehicle : batch) {
+            level.parkVehicle(vehicle, gate);
+        }
+        long elapsed = System.nanoTime() - start;
+        for (Vehicle vehicle : batch) {
+            level.removeVehicle(vehicle);
+        }
+        return elapsed;
+    }
+
+    // The allocation loop Level.parkVehicle used before gate-aware allocation.
+    private static boolean scanPark(Level level, Vehicle vehicle) {
+        synchronized (level) {
+            for (ParkingSpot spot : level.getParkingSpots()) {
+                if (spot.isAvailable() && spot.getVehicleType() == vehicle.getType()) {
+                    spot.parkVehicle(vehicle);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
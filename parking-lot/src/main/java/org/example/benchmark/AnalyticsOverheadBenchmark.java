@@ -0,0 +1,56 @@
+package org.example.benchmark;
+
+import org.example.Level;
+import org.example.analytics.OccupancyRecorder;
+import org.example.vehicle.Car;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+// Times park/unpark cycles on two identical levels, one of which feeds an OccupancyRecorder,
+// to show what recording costs per event.
+public class AnalyticsOverheadBenchmark {
+    private static final int SPOTS = 20_000;
+    private static final int BATCH = 5_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 40;
+
+    public static void main(String[] args) {
+        Level plainLevel = new Level(0, SPOTS);
+        Level recordedLevel = new Level(1, SPOTS);
+        OccupancyRecorder recorder = new OccupancyRecorder();
+        recordedLevel.addParkingEventListener(recorder);
+
+        Vehicle[] batch = new Vehicle[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = new Car("C" + i);
+        }
+
+        long plainNanos = 0;
+        long recordedNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long plain = runRound(plainLevel, batch);
+            long recorded = runRound(recordedLevel, batch);
+            if (round >= WARMUP_ROUNDS) {
+                plainNanos += plain;
+                recordedNanos += recorded;
+            }
+        }
+
+        long events = 2L * MEASURED_ROUNDS * BATCH;
+        System.out.printf("Spots: %,d, events measured: %,d%n", SPOTS, events);
+        System.out.printf("Without recorder: %,d ns/event%n", plainNanos / events);
+        System.out.printf("With recorder:    %,d ns/event%n", recordedNanos / events);
+        System.out.println("Last hour, floor 1, cars: " + recorder.lastHour(1, VehicleType.CAR));
+    }
+
+    private static long runRound(Level level, Vehicle[] batch) {
+        long start = System.nanoTime();
+        for (Vehicle vehicle : batch) {
+            level.parkVehicle(vehicle);
+        }
+        for (Vehicle vehicle : batch) {
+            level.removeVehicle(vehicle);
+        }
+        return System.nanoTime() - start;
+    }
+}
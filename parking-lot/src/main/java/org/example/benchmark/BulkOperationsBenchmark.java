@@ -0,0 +1,83 @@
+package org.example.benchmark;
+
+import org.example.BulkResult;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleFactory;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Stadium egress: 10k vehicles park and then leave a four-level lot, once through 10k individual
+// tryParkVehicle/tryRemoveVehicle calls and once through parkAll/removeAll.
+public class BulkOperationsBenchmark {
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 5_000;
+    private static final int BATCH = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 30;
+
+    public static void main(String[] args) {
+        ParkingLot individualLot = newLot();
+        ParkingLot bulkLot = newLot();
+        Random random = new Random(23);
+        VehicleType[] vehicleTypes = VehicleType.values();
+        List<Vehicle> vehicles = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            vehicles.add(VehicleFactory.createVehicle(vehicleTypes[random.nextInt(vehicleTypes.length)], "B" + i));
+        }
+
+        long[] individual = new long[2];
+        long[] bulk = new long[2];
+        int parked = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            boolean measured = round >= WARMUP_ROUNDS;
+            long start = System.nanoTime();
+            for (Vehicle vehicle : vehicles) {
+                individualLot.tryParkVehicle(vehicle, null);
+            }
+            long parkedAt = System.nanoTime();
+            for (Vehicle vehicle : vehicles) {
+                individualLot.tryRemoveVehicle(vehicle);
+            }
+            long removedAt = System.nanoTime();
+            if (measured) {
+                individual[0] += parkedAt - start;
+                individual[1] += removedAt - parkedAt;
+            }
+
+            start = System.nanoTime();
+            BulkResult result = bulkLot.parkAll(vehicles, null);
+            parkedAt = System.nanoTime();
+            bulkLot.removeAll(vehicles);
+            removedAt = System.nanoTime();
+            if (measured) {
+                bulk[0] += parkedAt - start;
+                bulk[1] += removedAt - parkedAt;
+            }
+            parked = result.getSuccessCount();
+        }
+
+        System.out.printf("Lot: %d x %,d spots, batch: %,d vehicles, parked per batch: %,d%n",
+            LEVELS, SPOTS_PER_LEVEL, BATCH, parked);
+        System.out.printf("Individual calls: park %,.0f vehicles/s, remove %,.0f vehicles/s%n",
+            perSecond(individual[0]), perSecond(individual[1]));
+        System.out.printf("parkAll/removeAll: park %,.0f vehicles/s, remove %,.0f vehicles/s%n",
+            perSecond(bulk[0]), perSecond(bulk[1]));
+    }
+
+    private static ParkingLot newLot() {
+        ParkingLot parkingLot = new ParkingLot();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            parkingLot.addLevel(new Level(floor, SPOTS_PER_LEVEL));
+        }
+        return parkingLot;
+    }
+
+    private static double perSecond(long totalNanos) {
+        return (double) BATCH * MEASURED_ROUNDS * 1e9 / totalNanos;
+    }
+}
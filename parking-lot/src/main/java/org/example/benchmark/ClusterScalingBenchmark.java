@@ -0,0 +1,105 @@
+package org.example.benchmark;
+
+import org.example.cluster.ClusterAvailability;
+import org.example.cluster.ClusterRouter;
+import org.example.cluster.LocalTransport;
+import org.example.cluster.ParkReply;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Runs the same park/exit load against clusters of 1, 2, 4 and 8 in-process nodes on the local
+// transport. Facilities are spread over the nodes by the hash ring; each client keeps a few cars
+// parked at random facilities and exits the oldest before parking the next. Reports request
+// throughput, how many facilities each node owns and the latency of a scatter-gather availability
+// query. Node threads compete for the same cores, so throughput can only scale up to the number of
+// available processors.
+// Usage: ClusterScalingBenchmark [clients] [seconds]
+public class ClusterScalingBenchmark {
+    private static final int FACILITIES = 64;
+    private static final int LEVELS = 2;
+    private static final int SPOTS_PER_LEVEL = 2_000;
+    private static final int PARKED_PER_CLIENT = 20;
+    private static final int AVAILABILITY_QUERIES = 200;
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        System.out.printf("Clients: %d, facilities: %d x %d levels x %,d spots, processors: %d, %d s per run%n",
+            clients, FACILITIES, LEVELS, SPOTS_PER_LEVEL, Runtime.getRuntime().availableProcessors(), seconds);
+        run(1, clients, 1);
+        for (int nodes : new int[]{1, 2, 4, 8}) {
+            System.out.println(run(nodes, clients, seconds));
+        }
+    }
+
+    private static String run(int nodeCount, int clients, int seconds) throws Exception {
+        try (LocalTransport transport = new LocalTransport()) {
+            for (int n = 0; n < nodeCount; n++) {
+                transport.startNode("node-" + n);
+            }
+            ClusterRouter router = new ClusterRouter(transport);
+            Map<String, Integer> owned = new HashMap<>();
+            for (int f = 0; f < FACILITIES; f++) {
+                String facilityId = "facility-" + f;
+                router.addFacility(facilityId, 40 + f * 0.01, -74, LEVELS, SPOTS_PER_LEVEL).join();
+                owned.merge(router.ownerOf(facilityId), 1, Integer::sum);
+            }
+
+            LongAdder requests = new LongAdder();
+            LongAdder rejected = new LongAdder();
+            CountDownLatch done = new CountDownLatch(clients);
+            long end = System.nanoTime() + seconds * 1_000_000_000L;
+            long start = System.nanoTime();
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                Thread.ofVirtual().start(() -> {
+                    ArrayDeque<String[]> parked = new ArrayDeque<>();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long sequence = 0;
+                    while (System.nanoTime() < end) {
+                        if (parked.size() == PARKED_PER_CLIENT) {
+                            String[] oldest = parked.poll();
+                            router.exit(oldest[0], oldest[1]).join();
+                            requests.increment();
+                        }
+                        String facilityId = "facility-" + random.nextInt(FACILITIES);
+                        String plate = "C" + client + "-" + sequence++;
+                        ParkReply reply = router.park(facilityId, VehicleType.CAR, plate).join();
+                        requests.increment();
+                        if (reply.parked()) {
+                            parked.add(new String[]{facilityId, plate});
+                        } else {
+                            rejected.increment();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+            done.await();
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            long[] queryNanos = new long[AVAILABILITY_QUERIES];
+            ClusterAvailability availability = null;
+            for (int i = 0; i < AVAILABILITY_QUERIES; i++) {
+                long queryStart = System.nanoTime();
+                availability = router.availability().join();
+                queryNanos[i] = System.nanoTime() - queryStart;
+            }
+            Arrays.sort(queryNanos);
+            int minOwned = owned.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+            int maxOwned = owned.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+            return String.format("%d node(s): %,10.0f requests/s, %d rejected, facilities per node %d-%d,"
+                    + " availability p50 %,d us p99 %,d us (%,d free car spots)",
+                nodeCount, requests.sum() / elapsedSeconds, rejected.sum(), minOwned, maxOwned,
+                queryNanos[AVAILABILITY_QUERIES / 2] / 1_000, queryNanos[AVAILABILITY_QUERIES * 99 / 100] / 1_000,
+                availability.getFreeSpots(VehicleType.CAR));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.benchmark;
+
+import org.example.Level;
+import org.example.allocation.SpotCompatibilityPolicy;
+import org.example.vehicle.Car;
+import org.example.vehicle.Motorcycle;
+import org.example.vehicle.Truck;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Replays the same peak-hour arrival and departure stream against an exact-match level and a
+// size-compatible level, and reports utilization and rejections for each.
+public class FallbackUtilizationSimulation {
+    private static final int SPOTS = 1_000;
+    private static final int MINUTES = 240;
+    private static final int PEAK_START = 60;
+    private static final int PEAK_END = 180;
+    private static final int ARRIVALS_PER_MINUTE = 8;
+    private static final int PEAK_ARRIVALS_PER_MINUTE = 28;
+    private static final double DEPARTURE_PROBABILITY = 0.03;
+    private static final double MOTORCYCLE_SHARE = 0.65;
+    private static final double CAR_SHARE = 0.30;
+
+    public static void main(String[] args) {
+        Result exact = simulate(SpotCompatibilityPolicy.exactMatch());
+        Result fallback = simulate(SpotCompatibilityPolicy.sizeCompatible());
+        System.out.printf("Spots: %d, minutes: %d, peak: %d-%d%n", SPOTS, MINUTES, PEAK_START, PEAK_END);
+        System.out.println("Exact match:     " + exact);
+        System.out.println("Size compatible: " + fallback);
+        System.out.printf("Peak utilization gain: %.1f percentage points%n",
+            (fallback.peakUtilization() - exact.peakUtilization()) * 100);
+    }
+
+    private static Result simulate(SpotCompatibilityPolicy compatibilityPolicy) {
+        Level level = new Level(0, SPOTS, compatibilityPolicy);
+        Random random = new Random(7);
+        List<Vehicle> parked = new ArrayList<>();
+        int arrivals = 0;
+        int rejected = 0;
+        double utilizationSum = 0;
+        int peakMinutes = 0;
+        for (int minute = 0; minute < MINUTES; minute++) {
+            for (int i = parked.size() - 1; i >= 0; i--) {
+                if (random.nextDouble() < DEPARTURE_PROBABILITY) {
+                    level.removeVehicle(parked.get(i));
+                    parked.set(i, parked.get(parked.size() - 1));
+                    parked.remove(parked.size() - 1);
+                }
+            }
+            boolean peak = minute >= PEAK_START && minute < PEAK_END;
+            int arrivalsThisMinute = peak ? PEAK_ARRIVALS_PER_MINUTE : ARRIVALS_PER_MINUTE;
+            for (int i = 0; i < arrivalsThisMinute; i++) {
+                Vehicle vehicle = randomVehicle(random, arrivals++);
+                if (level.parkVehicle(vehicle)) {
+                    parked.add(vehicle);
+                } else {
+                    rejected++;
+                }
+            }
+            if (peak) {
+                utilizationSum += (double) parked.size() / SPOTS;
+                peakMinutes++;
+            }
+        }
+        return new Result(arrivals, rejected, utilizationSum / peakMinutes,
+            level.getParkedVehicles(VehicleType.MOTORCYCLE), level.getParkedVehicles(VehicleType.CAR),
+            level.getParkedVehicles(VehicleType.TRUCK));
+    }
+
+    private static Vehicle randomVehicle(Random random, int sequence) {
+        double roll = random.nextDouble();
+        if (roll < MOTORCYCLE_SHARE) {
+            return new Motorcycle("M" + sequence);
+        }
+        if (roll < MOTORCYCLE_SHARE + CAR_SHARE) {
+            return new Car("C" + sequence);
+        }
+        return new Truck("T" + sequence);
+    }
+
+    private record Result(int arrivals, int rejected, double peakUtilization,
+                          int motorcycles, int cars, int trucks) {
+        @Override
+        public String toString() {
+            return String.format("peak utilization %.1f%%, rejected %d of %d, parked at close M/C/T %d/%d/%d",
+                peakUtilization * 100, rejected, arrivals, motorcycles, cars, trucks);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package org.example.benchmark;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.api.GateApiServer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Starts the gate API on loopback and has concurrent gate controllers (virtual threads, one
+// keep-alive connection each) send park/exit pairs for a fixed time, then reports gate events per
+// second and request latency. Then every controller tries to park the same plate at once, round
+// after round; exactly one park per round may succeed. Last, malformed requests must get a 400.
+// Usage: GateApiLoadTest [controllers] [seconds]
+public class GateApiLoadTest {
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 5_000;
+    private static final int GATES = 4;
+    private static final int WARMUP_SECONDS = 3;
+    private static final int MAX_SAMPLES_PER_CONTROLLER = 1 << 20;
+    private static final int DUPLICATE_PLATE_ROUNDS = 200;
+    private static final String[] MALFORMED_FORMS = {
+        "plate=BAD-1&type=BOAT", "plate=&type=CAR", "plate=BAD-2&type=CAR&gate=x", "plate=BAD%2"};
+
+    public static void main(String[] args) throws Exception {
+        int controllers = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        ParkingLot parkingLot = new ParkingLot();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            parkingLot.addLevel(new Level(floor, SPOTS_PER_LEVEL));
+        }
+        for (int i = 0; i < GATES; i++) {
+            parkingLot.addGate(new Gate(i, i * 5, 0));
+        }
+
+        try (GateApiServer server = new GateApiServer(parkingLot,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            server.start();
+            run(server.getPort(), controllers, WARMUP_SECONDS, new long[controllers][], new int[controllers],
+                new AtomicLong());
+            long[][] samples = new long[controllers][];
+            int[] counts = new int[controllers];
+            AtomicLong failures = new AtomicLong();
+            long elapsed = run(server.getPort(), controllers, seconds, samples, counts, failures);
+
+            long[] latencies = merge(samples, counts);
+            System.out.printf("Controllers: %d, gate events: %,d in %d s, failures: %,d%n",
+                controllers, latencies.length, seconds, failures.get());
+            System.out.printf("Throughput: %,.0f events/s%n", latencies.length * 1e9 / elapsed);
+            System.out.printf("Latency p50=%,d us, p99=%,d us, p999=%,d us%n", percentile(latencies, 50) / 1000,
+                percentile(latencies, 99) / 1000, percentile(latencies, 99.9) / 1000);
+
+            int violations = duplicatePlateRounds(server.getPort(), parkingLot, controllers);
+            System.out.printf("Duplicate plate: %d rounds of %d concurrent parks, %d rounds with other than "
+                + "exactly one vehicle parked%n", DUPLICATE_PLATE_ROUNDS, controllers, violations);
+            if (violations > 0) {
+                throw new IllegalStateException("Duplicate plate parked " + violations + " times");
+            }
+
+            int rejected = malformedRequests(server.getPort());
+            System.out.printf("Malformed requests: %d of %d answered 400%n", rejected, MALFORMED_FORMS.length);
+            if (rejected != MALFORMED_FORMS.length) {
+                throw new IllegalStateException("Malformed request not answered with 400");
+            }
+        }
+    }
+
+    // Each round every controller posts /park for the same plate behind a barrier. A round is
+    // broken unless exactly one request got 201 and the lot holds exactly one vehicle with that
+    // plate; the plate then exits so the lot stays empty.
+    private static int duplicatePlateRounds(int port, ParkingLot parkingLot, int controllers)
+            throws InterruptedException {
+        CyclicBarrier barrier = new CyclicBarrier(controllers);
+        AtomicInteger[] parked = new AtomicInteger[DUPLICATE_PLATE_ROUNDS];
+        for (int round = 0; round < DUPLICATE_PLATE_ROUNDS; round++) {
+            parked[round] = new AtomicInteger();
+        }
+        AtomicInteger violations = new AtomicInteger();
+        Thread[] threads = new Thread[controllers];
+        for (int c = 0; c < controllers; c++) {
+            int controller = c;
+            threads[c] = Thread.ofVirtual().start(() -> {
+                try (GateConnection connection = new GateConnection(port)) {
+                    for (int round = 0; round < DUPLICATE_PLATE_ROUNDS; round++) {
+                        String form = "plate=DUP-" + round + "&type=CAR&gate=" + controller % GATES;
+                        barrier.await();
+                        if (connection.post("/park", form) == 201) {
+                            parked[round].incrementAndGet();
+                        }
+                        barrier.await();
+                        if (controller == 0) {
+                            if (parked[round].get() != 1 || countParked(parkingLot, "DUP-" + round) != 1) {
+                                violations.incrementAndGet();
+                            }
+                            connection.post("/exit", form);
+                        }
+                    }
+                } catch (IOException | InterruptedException | BrokenBarrierException e) {
+                    violations.incrementAndGet();
+                    barrier.reset();
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return violations.get();
+    }
+
+    // Sent one after another on a single keep-alive connection, so a 400 must also leave it usable.
+    private static int malformedRequests(int port) throws IOException {
+        int rejected = 0;
+        try (GateConnection connection = new GateConnection(port)) {
+            for (String form : MALFORMED_FORMS) {
+                if (connection.post("/park", form) == 400) {
+                    rejected++;
+                }
+            }
+        }
+        return rejected;
+    }
+
+    private static int countParked(ParkingLot parkingLot, String licensePlate) {
+        int[] count = new int[1];
+        for (Level level : parkingLot.getLevels()) {
+            level.visitOccupiedSpots((spotIndex, vehicle, entryTime) -> {
+                if (vehicle.getLicensePlate().equals(licensePlate)) {
+                    count[0]++;
+                }
+            });
+        }
+        return count[0];
+    }
+
+    private static long run(int port, int controllers, int seconds, long[][] samples, int[] counts,
+                            AtomicLong failures) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        Thread[] threads = new Thread[controllers];
+        for (int c = 0; c < controllers; c++) {
+            int controller = c;
+            samples[controller] = new long[MAX_SAMPLES_PER_CONTROLLER];
+            threads[c] = Thread.ofVirtual().start(() -> {
+                try (GateConnection connection = new GateConnection(port)) {
+                    long sequence = 0;
+                    while (System.nanoTime() < end) {
+                        String form = "plate=L" + controller + "-" + sequence++ + "&type=CAR&gate=" + controller % GATES;
+                        for (String path : new String[] {"/park", "/exit"}) {
+                            long requestStart = System.nanoTime();
+                            int status = connection.post(path, form);
+                            if (counts[controller] < MAX_SAMPLES_PER_CONTROLLER) {
+                                samples[controller][counts[controller]++] = System.nanoTime() - requestStart;
+                            }
+                            if (status != (path.equals("/park") ? 201 : 200)) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (IOException e) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long[] merge(long[][] samples, int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (int i = 0; i < samples.length; i++) {
+            System.arraycopy(samples[i], 0, merged, offset, counts[i]);
+            offset += counts[i];
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(sorted.length * percentile / 100);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    // Minimal HTTP/1.1 keep-alive client: writes each request in one segment and skips the response
+    // body using its Content-Length.
+    private static final class GateConnection implements AutoCloseable {
+        private final Socket socket;
+        private final OutputStream out;
+        private final InputStream in;
+
+        GateConnection(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setTcpNoDelay(true);
+            out = new BufferedOutputStream(socket.getOutputStream(), 512);
+            in = new BufferedInputStream(socket.getInputStream(), 4096);
+        }
+
+        int post(String path, String form) throws IOException {
+            String request = "POST " + path + " HTTP/1.1\r\nHost: localhost\r\n"
+                + "Content-Type: application/x-www-form-urlencoded\r\nContent-Length: " + form.length() + "\r\n\r\n"
+                + form;
+            out.write(request.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return readResponse();
+        }
+
+        private int readResponse() throws IOException {
+            StringBuilder line = new StringBuilder(64);
+            int status = -1;
+            int contentLength = 0;
+            while (true) {
+                int b = in.read();
+                if (b < 0) {
+                    throw new EOFException("Connection closed by server");
+                }
+                if (b != '\n') {
+                    line.append((char) b);
+                    continue;
+                }
+                String header = line.toString().trim();
+                line.setLength(0);
+                if (header.isEmpty()) {
+                    break;
+                }
+                if (status < 0) {
+                    status = Integer.parseInt(header.substring(9, 12));
+                } else if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                    contentLength = Integer.parseInt(header.substring(15).trim());
+                }
+            }
+            in.skipNBytes(contentLength);
+            return status;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
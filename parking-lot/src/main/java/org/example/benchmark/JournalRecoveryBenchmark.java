@@ -0,0 +1,109 @@
+package org.example.benchmark;
+
+import org.example.Level;
+import org.example.journal.ParkingJournal;
+import org.example.vehicle.Car;
+import org.example.vehicle.Motorcycle;
+import org.example.vehicle.Truck;
+import org.example.vehicle.Vehicle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+// Fills a 100k-spot lot, snapshots it, journals a tail of further events, then times recovery
+// into a fresh set of levels and checks that every spot came back with the same plate.
+public class JournalRecoveryBenchmark {
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 25_000;
+    private static final double FILL = 0.9;
+    private static final int TAIL_EVENTS = 50_000;
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("parking-journal");
+        try {
+            List<Level> original = newLevels();
+            try (ParkingJournal journal = ParkingJournal.open(directory, original, 5, 0)) {
+                Random random = new Random(11);
+                List<Vehicle> parked = new ArrayList<>();
+                int sequence = 0;
+                for (Level level : original) {
+                    for (int i = 0; i < SPOTS_PER_LEVEL * FILL; i++) {
+                        Vehicle vehicle = newVehicle(random, sequence++);
+                        if (level.parkVehicle(vehicle)) {
+                            parked.add(vehicle);
+                        }
+                    }
+                }
+                journal.snapshot();
+                for (int i = 0; i < TAIL_EVENTS; i++) {
+                    if (random.nextBoolean() && !parked.isEmpty()) {
+                        Vehicle vehicle = parked.remove(random.nextInt(parked.size()));
+                        for (Level level : original) {
+                            level.removeVehicle(vehicle);
+                        }
+                    } else {
+                        Vehicle vehicle = newVehicle(random, sequence++);
+                        if (original.get(i % LEVELS).parkVehicle(vehicle)) {
+                            parked.add(vehicle);
+                        }
+                    }
+                }
+                System.out.printf("Journaled %,d parked vehicles, snapshot plus %,d tail events%n",
+                    parked.size(), TAIL_EVENTS);
+            }
+
+            List<Level> recovered = newLevels();
+            long start = System.nanoTime();
+            ParkingJournal journal = ParkingJournal.open(directory, recovered, 5, 0);
+            long elapsed = System.nanoTime() - start;
+            journal.close();
+            System.out.printf("Recovered %d x %,d spots in %,d ms%n", LEVELS, SPOTS_PER_LEVEL, elapsed / 1_000_000);
+            verify(original, recovered);
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private static List<Level> newLevels() {
+        List<Level> levels = new ArrayList<>();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            levels.add(new Level(floor, SPOTS_PER_LEVEL));
+        }
+        return levels;
+    }
+
+    private static Vehicle newVehicle(Random random, int sequence) {
+        return switch (random.nextInt(3)) {
+            case 0 -> new Motorcycle("MC" + sequence);
+            case 1 -> new Car("CAR" + sequence);
+            default -> new Truck("TRK" + sequence);
+        };
+    }
+
+    private static void verify(List<Level> original, List<Level> recovered) {
+        for (int floor = 0; floor < original.size(); floor++) {
+            Level expected = original.get(floor);
+            Level actual = recovered.get(floor);
+            for (int spot = 0; spot < expected.getSpotCount(); spot++) {
+                Vehicle expectedVehicle = expected.getParkingSpots().get(spot).getParkedVehicle();
+                Vehicle actualVehicle = actual.getParkingSpots().get(spot).getParkedVehicle();
+                String expectedPlate = expectedVehicle == null ? null : expectedVehicle.getLicensePlate();
+                String actualPlate = actualVehicle == null ? null : actualVehicle.getLicensePlate();
+                if (expectedPlate == null ? actualPlate != null : !expectedPlate.equals(actualPlate)) {
+                    throw new IllegalStateException("Mismatch on floor " + floor + " spot " + spot);
+                }
+            }
+        }
+        System.out.println("Recovered state matches the journaled lot");
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.benchmark;
+
+import org.example.CompactSpotStore;
+import org.example.Level;
+import org.example.ObjectSpotStore;
+import org.example.SpotStore;
+import org.example.allocation.SpotCompatibilityPolicy;
+
+import java.util.function.IntFunction;
+
+// Measures construction time and retained heap per spot for object-backed and primitive-array-backed levels.
+// Run with a fixed heap and a simple collector, e.g. -XX:+UseSerialGC -Xms3g -Xmx3g, so the used-memory deltas are stable.
+public class LevelFootprintBenchmark {
+    private static final int SPOTS = 2_000_000;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) {
+        measure("ObjectSpotStore ", ObjectSpotStore::new);
+        measure("CompactSpotStore", CompactSpotStore::new);
+    }
+
+    private static void measure(String name, IntFunction<SpotStore> storeFactory) {
+        long[] best = {Long.MAX_VALUE, Long.MAX_VALUE, 0, 0};
+        for (int run = 0; run < RUNS; run++) {
+            long[] sample = buildOnce(storeFactory);
+            best[0] = Math.min(best[0], sample[0]);
+            best[1] = Math.min(best[1], sample[1]);
+            best[2] = Math.max(best[2], sample[2]);
+            best[3] = Math.max(best[3], sample[3]);
+        }
+        System.out.printf("%s: store %,d ms, %.1f bytes/spot; level indices %,d ms, %.1f bytes/spot%n",
+            name, best[0] / 1_000_000, (double) best[2] / SPOTS, best[1] / 1_000_000, (double) best[3] / SPOTS);
+    }
+
+    // A compiled caller can keep the previous run's level reachable for a while, so the heap
+    // deltas are reported as the largest observed rather than the last one.
+    private static long[] buildOnce(IntFunction<SpotStore> storeFactory) {
+        long before = usedHeap();
+        long start = System.nanoTime();
+        SpotStore spotStore = storeFactory.apply(SPOTS);
+        long storeNanos = System.nanoTime() - start;
+        long afterStore = usedHeap();
+        start = System.nanoTime();
+        Level level = new Level(0, spotStore, SpotCompatibilityPolicy.sizeCompatible());
+        long levelNanos = System.nanoTime() - start;
+        long afterLevel = usedHeap();
+        if (level.getParkingSpots().size() != SPOTS) {
+            throw new IllegalStateException("Unexpected spot count");
+        }
+        return new long[]{storeNanos, levelNanos, afterStore - before, afterLevel - afterStore};
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.benchmark;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.allocation.LevelSelectionStrategy;
+import org.example.vehicle.Car;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Many gate threads park cars concurrently on a four-level lot under each level selection strategy
+// and unpark them from the level they were parked on (as a ticket would tell the exit gate). Reports throughput, how often gate threads blocked on a level monitor
+// (JMX contention monitoring) and how evenly the cars ended up spread over the floors.
+// Usage: LevelSelectionBenchmark [gates] [seconds]
+public class LevelSelectionBenchmark {
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 5_000;
+    private static final int PARKED_PER_GATE = 200;
+
+    public static void main(String[] args) throws InterruptedException {
+        int gates = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.setThreadContentionMonitoringEnabled(true);
+
+        Map<Integer, Integer> floorByGateId = new LinkedHashMap<>();
+        for (int i = 0; i < gates; i++) {
+            floorByGateId.put(i, i % LEVELS);
+        }
+        Map<String, LevelSelectionStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("first-fit", LevelSelectionStrategy.firstFit());
+        strategies.put("least-loaded", LevelSelectionStrategy.leastLoaded());
+        strategies.put("two-choices", LevelSelectionStrategy.twoChoices());
+        strategies.put("gate-affinity", LevelSelectionStrategy.gateAffinity(floorByGateId));
+
+        System.out.printf("Gates: %d, levels: %d x %,d spots, %d s per strategy%n", gates, LEVELS,
+            SPOTS_PER_LEVEL, seconds);
+        run(LevelSelectionStrategy.firstFit(), gates, 1, threads);
+        for (Map.Entry<String, LevelSelectionStrategy> strategy : strategies.entrySet()) {
+            System.out.printf("%-14s %s%n", strategy.getKey(), run(strategy.getValue(), gates, seconds, threads));
+        }
+    }
+
+    private static String run(LevelSelectionStrategy strategy, int gateCount, int seconds, ThreadMXBean threads)
+            throws InterruptedException {
+        ParkingLot parkingLot = new ParkingLot();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            parkingLot.addLevel(new Level(floor, SPOTS_PER_LEVEL));
+        }
+        parkingLot.setLevelSelectionStrategy(strategy);
+        Gate[] gates = new Gate[gateCount];
+        for (int i = 0; i < gateCount; i++) {
+            gates[i] = new Gate(i, i % 20, 0);
+            parkingLot.addGate(gates[i]);
+        }
+
+        long[] operations = new long[gateCount];
+        long[] blocked = new long[gateCount];
+        int[][] distribution = new int[gateCount][LEVELS];
+        CountDownLatch ready = new CountDownLatch(gateCount);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[gateCount];
+        long[] end = new long[1];
+        for (int g = 0; g < gateCount; g++) {
+            int gateIndex = g;
+            workers[g] = Thread.ofPlatform().start(() -> {
+                ArrayDeque<Vehicle> parked = new ArrayDeque<>();
+                ArrayDeque<Level> parkedOn = new ArrayDeque<>();
+                long sequence = 0;
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long blockedBefore = threads.getThreadInfo(Thread.currentThread().threadId()).getBlockedCount();
+                while (System.nanoTime() < end[0]) {
+                    Vehicle car = new Car("G" + gateIndex + "-" + sequence++);
+                    Level level = parkingLot.tryParkVehicle(car, gates[gateIndex]);
+                    if (level != null) {
+                        parked.add(car);
+                        parkedOn.add(level);
+                        distribution[gateIndex][level.getFloor()]++;
+                    }
+                    if (parked.size() > PARKED_PER_GATE) {
+                        parkedOn.poll().removeVehicle(parked.poll());
+                    }
+                    operations[gateIndex] += 2;
+                }
+                blocked[gateIndex] = threads.getThreadInfo(Thread.currentThread().threadId()).getBlockedCount()
+                    - blockedBefore;
+            });
+        }
+        ready.await();
+        long start = System.nanoTime();
+        end[0] = start + TimeUnit.SECONDS.toNanos(seconds);
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long totalOperations = 0;
+        long totalBlocked = 0;
+        for (int g = 0; g < gateCount; g++) {
+            totalOperations += operations[g];
+            totalBlocked += blocked[g];
+        }
+        long[] parksPerFloor = new long[LEVELS];
+        long parks = 0;
+        for (int[] gateDistribution : distribution) {
+            for (int floor = 0; floor < LEVELS; floor++) {
+                parksPerFloor[floor] += gateDistribution[floor];
+                parks += gateDistribution[floor];
+            }
+        }
+        StringBuilder spread = new StringBuilder();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            spread.append(floor == 0 ? "" : "/").append(Math.round(100.0 * parksPerFloor[floor] / Math.max(parks, 1)));
+        }
+        return String.format("%,10.0f ops/s, blocked %,8d times (%.2f per 1k ops), parks per floor %% %s",
+            totalOperations * 1e9 / elapsed, totalBlocked, 1000.0 * totalBlocked / totalOperations, spread);
+    }
+}
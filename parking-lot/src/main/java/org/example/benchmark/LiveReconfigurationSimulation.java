@@ -0,0 +1,85 @@
+package org.example.benchmark;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.simulation.SimulationConfig;
+import org.example.simulation.SimulationReport;
+import org.example.simulation.TrafficSimulator;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Runs rush-hour traffic while an admin thread keeps opening an overflow deck, draining it and
+// closing it once the last vehicle has left, then checks that no vehicle was stranded on a
+// closed deck.
+public class LiveReconfigurationSimulation {
+    private static final int LEVELS = 3;
+    private static final int SPOTS_PER_LEVEL = 2_000;
+    private static final int OVERFLOW_FLOOR = 100;
+    private static final int GATES = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        ParkingLot parkingLot = new ParkingLot();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            parkingLot.addLevel(new Level(floor, SPOTS_PER_LEVEL));
+        }
+        List<Gate> gates = new ArrayList<>();
+        for (int i = 0; i < GATES; i++) {
+            Gate gate = new Gate(i, i * 5, 0);
+            parkingLot.addGate(gate);
+            gates.add(gate);
+        }
+
+        List<Level> closedDecks = new ArrayList<>();
+        int[] peakOverflowParked = new int[1];
+        Thread admin = Thread.ofPlatform().start(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    parkingLot.addLevel(new Level(OVERFLOW_FLOOR, SPOTS_PER_LEVEL));
+                    Thread.sleep(300);
+                    parkingLot.drainLevel(OVERFLOW_FLOOR);
+                    Level deck = parkingLot.getLevel(OVERFLOW_FLOOR);
+                    peakOverflowParked[0] = Math.max(peakOverflowParked[0], parked(deck));
+                    while (!isEmpty(deck)) {
+                        Thread.sleep(10);
+                    }
+                    closedDecks.add(parkingLot.closeLevel(OVERFLOW_FLOOR));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        SimulationConfig config = new SimulationConfig(GATES, 8_000, 500, 10_000, SimulationConfig.rushHourMix(), 9);
+        SimulationReport report = new TrafficSimulator(parkingLot, gates, config).run();
+        admin.interrupt();
+        admin.join();
+
+        int stranded = 0;
+        for (Level deck : closedDecks) {
+            stranded += parked(deck);
+        }
+        System.out.print(report);
+        System.out.printf("Overflow deck opened/drained/closed %d times, up to %,d vehicles on it, "
+            + "stranded on closed decks: %d%n", closedDecks.size(), peakOverflowParked[0], stranded);
+    }
+
+    private static int parked(Level level) {
+        int parked = 0;
+        for (VehicleType vehicleType : VehicleType.values()) {
+            parked += level.getParkedVehicles(vehicleType);
+        }
+        return parked;
+    }
+
+    private static boolean isEmpty(Level level) {
+        for (VehicleType spotType : VehicleType.values()) {
+            if (level.getAvailableSpots(spotType) != level.getTotalSpots(spotType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.benchmark;
+
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.overstay.OverstayIndex;
+import org.example.overstay.OverstaySweeper;
+import org.example.vehicle.Car;
+import org.example.vehicle.Motorcycle;
+import org.example.vehicle.Truck;
+import org.example.vehicle.Vehicle;
+
+import java.util.Random;
+
+// Fills a 100k-spot lot with stays spread over the last day, then compares "parked longer than
+// 23 hours" answered by scanning every spot with the time-ordered OverstayIndex, and times sweeps.
+public class OverstayBenchmark {
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 25_000;
+    private static final long DAY_MILLIS = 24 * 3_600_000L;
+    private static final long THRESHOLD_MILLIS = 23 * 3_600_000L;
+    private static final int ROUNDS = 200;
+
+    public static void main(String[] args) {
+        long now = System.currentTimeMillis();
+        ParkingLot parkingLot = new ParkingLot();
+        Random random = new Random(5);
+        int sequence = 0;
+        for (int floor = 0; floor < LEVELS; floor++) {
+            Level level = new Level(floor, SPOTS_PER_LEVEL);
+            for (int spotIndex = 0; spotIndex < SPOTS_PER_LEVEL; spotIndex++) {
+                String plate = "P" + sequence++;
+                Vehicle vehicle = switch (level.getSpotType(spotIndex)) {
+                    case MOTORCYCLE -> new Motorcycle(plate);
+                    case CAR -> new Car(plate);
+                    case TRUCK -> new Truck(plate);
+                };
+                level.restoreVehicle(spotIndex, vehicle, now - (long) (random.nextDouble() * DAY_MILLIS));
+            }
+            parkingLot.addLevel(level);
+        }
+        OverstayIndex overstayIndex = OverstayIndex.attachTo(parkingLot);
+
+        int scanned = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            int[] found = new int[1];
+            for (Level level : parkingLot.getLevels()) {
+                level.visitOccupiedSpots((spotIndex, vehicle, entryTime) -> {
+                    if (now - entryTime > THRESHOLD_MILLIS) {
+                        found[0]++;
+                    }
+                });
+            }
+            scanned = found[0];
+        }
+        long scanNanos = (System.nanoTime() - start) / ROUNDS;
+
+        int indexed = 0;
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            indexed = overstayIndex.findParkedLongerThan(THRESHOLD_MILLIS, now).size();
+        }
+        long indexNanos = (System.nanoTime() - start) / ROUNDS;
+
+        int[] reported = new int[1];
+        OverstaySweeper sweeper = new OverstaySweeper(overstayIndex, THRESHOLD_MILLIS,
+            (parkedVehicle, parkedMillis) -> reported[0]++);
+        start = System.nanoTime();
+        sweeper.sweep(now);
+        long firstSweepNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int second = 1; second <= 60; second++) {
+            sweeper.sweep(now + second * 1_000L);
+        }
+        long sweepNanos = (System.nanoTime() - start) / 60;
+        sweeper.close();
+
+        System.out.printf("Parked: %,d, longer than 23 h: scan found %,d, index found %,d%n",
+            overstayIndex.size(), scanned, indexed);
+        System.out.printf("Full scan: %,d us/query, OverstayIndex: %,d us/query%n", scanNanos / 1000,
+            indexNanos / 1000);
+        System.out.printf("Sweeps: first %,d us, then %,d us per 1 s sweep, %,d overstays reported once each%n",
+            firstSweepNanos / 1000, sweepNanos / 1000, reported[0]);
+    }
+}
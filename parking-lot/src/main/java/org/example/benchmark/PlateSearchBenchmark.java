@@ -0,0 +1,128 @@
+package org.example.benchmark;
+
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.plate.PlateIndex;
+import org.example.vehicle.Car;
+import org.example.vehicle.Motorcycle;
+import org.example.vehicle.Truck;
+import org.example.vehicle.Vehicle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Parks 100k vehicles with random plates (three letters, four digits) and compares prefix and
+// one-edit fuzzy lookups through the PlateIndex with a scan over every occupied spot.
+public class PlateSearchBenchmark {
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 25_000;
+    private static final int QUERIES = 200;
+    private static final int WARMUP_ROUNDS = 20;
+
+    public static void main(String[] args) {
+        ParkingLot parkingLot = new ParkingLot();
+        PlateIndex plateIndex = PlateIndex.attachTo(parkingLot);
+        Random random = new Random(17);
+        List<String> plates = new ArrayList<>();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            Level level = new Level(floor, SPOTS_PER_LEVEL);
+            parkingLot.addLevel(level);
+            for (int spotIndex = 0; spotIndex < SPOTS_PER_LEVEL; spotIndex++) {
+                String plate = randomPlate(random);
+                Vehicle vehicle = switch (level.getSpotType(spotIndex)) {
+                    case MOTORCYCLE -> new Motorcycle(plate);
+                    case CAR -> new Car(plate);
+                    case TRUCK -> new Truck(plate);
+                };
+                if (level.parkVehicle(vehicle)) {
+                    plates.add(plate);
+                }
+            }
+        }
+
+        String[] prefixes = new String[QUERIES];
+        String[] misreads = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String plate = plates.get(random.nextInt(plates.size()));
+            prefixes[i] = plate.substring(0, 3);
+            char[] chars = plate.toCharArray();
+            chars[3 + random.nextInt(4)] = (char) ('0' + random.nextInt(10));
+            misreads[i] = new String(chars);
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int i = 0; i < QUERIES; i++) {
+                plateIndex.findByPrefix(prefixes[i], Integer.MAX_VALUE);
+                plateIndex.findSimilar(misreads[i]);
+            }
+            scan(parkingLot, prefixes[0], misreads[0]);
+        }
+
+        int scanMatches = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            scanMatches += scan(parkingLot, prefixes[i], misreads[i]);
+        }
+        long scanNanos = (System.nanoTime() - start) / QUERIES;
+
+        int indexMatches = 0;
+        long prefixNanos = 0;
+        long fuzzyNanos = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            start = System.nanoTime();
+            indexMatches += plateIndex.findByPrefix(prefixes[i], Integer.MAX_VALUE).size();
+            prefixNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            indexMatches += plateIndex.findSimilar(misreads[i]).size();
+            fuzzyNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("Parked: %,d, matches: scan %,d, index %,d%n", plateIndex.size(), scanMatches,
+            indexMatches);
+        System.out.printf("Scan (prefix + fuzzy): %,d us/query pair%n", scanNanos / 1000);
+        System.out.printf("PlateIndex prefix: %,d ns/query, fuzzy: %,d ns/query%n", prefixNanos / QUERIES,
+            fuzzyNanos / QUERIES);
+    }
+
+    private static int scan(ParkingLot parkingLot, String prefix, String misread) {
+        int[] matches = new int[1];
+        for (Level level : parkingLot.getLevels()) {
+            level.visitOccupiedSpots((spotIndex, vehicle, entryTime) -> {
+                String plate = vehicle.getLicensePlate();
+                if (plate.startsWith(prefix)) {
+                    matches[0]++;
+                }
+                if (differsByAtMostOneChar(plate, misread)) {
+                    matches[0]++;
+                }
+            });
+        }
+        return matches[0];
+    }
+
+    // Same-length plates only, which is all the benchmark generates.
+    private static boolean differsByAtMostOneChar(String first, String second) {
+        if (first.length() != second.length()) {
+            return false;
+        }
+        int differences = 0;
+        for (int i = 0; i < first.length() && differences < 2; i++) {
+            if (first.charAt(i) != second.charAt(i)) {
+                differences++;
+            }
+        }
+        return differences < 2;
+    }
+
+    private static String randomPlate(Random random) {
+        StringBuilder plate = new StringBuilder(7);
+        for (int i = 0; i < 3; i++) {
+            plate.append((char) ('A' + random.nextInt(26)));
+        }
+        for (int i = 0; i < 4; i++) {
+            plate.append((char) ('0' + random.nextInt(10)));
+        }
+        return plate.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.benchmark;
+
+import org.example.billing.RateTable;
+import org.example.billing.SessionLog;
+import org.example.billing.SettlementJob;
+import org.example.billing.SettlementReport;
+import org.example.vehicle.VehicleType;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+// Prices a day of synthetic sessions on exit and settles them with one worker and with the common pool.
+public class SettlementBenchmark {
+    private static final int SESSIONS = 1_000_000;
+    private static final int FLOORS = 8;
+    private static final int RUNS = 5;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    public static void main(String[] args) {
+        ZoneId zone = ZoneId.of("UTC");
+        LocalDate day = LocalDate.of(2026, 1, 15);
+        long dayStart = day.atStartOfDay(zone).toInstant().toEpochMilli();
+        RateTable rateTable = RateTable.standard();
+        SessionLog sessionLog = new SessionLog();
+        Random random = new Random(5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SESSIONS; i++) {
+            VehicleType vehicleType = VEHICLE_TYPES[random.nextInt(VEHICLE_TYPES.length)];
+            long entry = dayStart - 3_600_000 + (long) (random.nextDouble() * 86_400_000);
+            long exit = entry + 60_000 + (long) (random.nextDouble() * 6 * 3_600_000);
+            sessionLog.append(random.nextInt(FLOORS), vehicleType, entry, exit,
+                rateTable.feeCents(vehicleType, entry, exit));
+        }
+        long pricingNanos = System.nanoTime() - start;
+        System.out.printf("Priced and logged %,d exits in %,d ms (%,d ns/exit)%n",
+            SESSIONS, pricingNanos / 1_000_000, pricingNanos / SESSIONS);
+
+        ForkJoinPool singleWorker = new ForkJoinPool(1);
+        report("1 worker", new SettlementJob(singleWorker), sessionLog, day, zone);
+        report(ForkJoinPool.commonPool().getParallelism() + " workers",
+            new SettlementJob(ForkJoinPool.commonPool()), sessionLog, day, zone);
+        singleWorker.shutdown();
+    }
+
+    private static void report(String name, SettlementJob job, SessionLog sessionLog, LocalDate day, ZoneId zone) {
+        long best = Long.MAX_VALUE;
+        SettlementReport report = null;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            report = job.settle(sessionLog, day, zone);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("Settlement with %s: %,d ms%n", name, best / 1_000_000);
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.benchmark;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.ticket.TicketId;
+import org.example.ticket.TicketSequencer;
+import org.example.vehicle.Car;
+import org.example.vehicle.Vehicle;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Compares ticket sequence issuance from per-gate blocks with one shared counter across many gate
+// threads, then parks and exits cars by ticket and by Vehicle reference, validates tickets
+// (including stale tickets for reused spots) and round-trips the printed text code.
+// Usage: TicketBenchmark [gates]
+public class TicketBenchmark {
+    private static final int SEQUENCES_PER_GATE = 2_000_000;
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 25_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws InterruptedException {
+        int gates = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            issue(gates, true);
+            issue(gates, false);
+        }
+        System.out.printf("Sequence issuance, %d gates: per-gate blocks %.1f ns/op, shared counter %.1f ns/op%n",
+            gates, issue(gates, true), issue(gates, false));
+
+        ParkingLot parkingLot = new ParkingLot();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            parkingLot.addLevel(new Level(floor, SPOTS_PER_LEVEL));
+        }
+        Gate gate = new Gate(0, 0, 0);
+        parkingLot.addGate(gate);
+        Car[] cars = new Car[LEVELS * SPOTS_PER_LEVEL];
+        for (int i = 0; i < cars.length; i++) {
+            cars[i] = new Car("T" + i);
+        }
+        long[] tickets = new long[cars.length];
+        long[] staleTickets = new long[cars.length];
+        long byTicket = 0;
+        long byVehicle = 0;
+        long validateNanos = 0;
+        int parked = 0;
+        int staleAccepted = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            parked = 0;
+            for (Car car : cars) {
+                long ticketId = parkingLot.parkVehicleWithTicket(car, gate);
+                if (ticketId != TicketId.NONE) {
+                    tickets[parked++] = ticketId;
+                }
+            }
+            for (int i = 0; i < parked; i++) {
+                parkingLot.removeVehicleWithTicket(tickets[i]);
+            }
+            byTicket = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (Car car : cars) {
+                parkingLot.tryParkVehicle(car, gate);
+            }
+            for (Vehicle car : cars) {
+                parkingLot.tryRemoveVehicle(car);
+            }
+            byVehicle = System.nanoTime() - start;
+
+            // Park again so every spot is reused: the first round's tickets must now be rejected.
+            System.arraycopy(tickets, 0, staleTickets, 0, parked);
+            for (int i = 0; i < parked; i++) {
+                tickets[i] = parkingLot.parkVehicleWithTicket(cars[i], gate);
+            }
+            start = System.nanoTime();
+            staleAccepted = 0;
+            int valid = 0;
+            for (int i = 0; i < parked; i++) {
+                valid += parkingLot.isValidTicket(tickets[i]) ? 1 : 0;
+                staleAccepted += parkingLot.isValidTicket(staleTickets[i]) ? 1 : 0;
+            }
+            validateNanos = System.nanoTime() - start;
+            if (valid != parked) {
+                throw new IllegalStateException("Only " + valid + " of " + parked + " live tickets validated");
+            }
+            for (int i = 0; i < parked; i++) {
+                parkingLot.removeVehicleWithTicket(tickets[i]);
+            }
+        }
+        System.out.printf("Park + exit of %,d cars: by ticket %.1f ms, by Vehicle reference %.1f ms%n",
+            parked, byTicket / 1e6, byVehicle / 1e6);
+        System.out.printf("Validation: %.1f ns/ticket, %d of %,d stale tickets accepted%n",
+            validateNanos / (2.0 * parked), staleAccepted, parked);
+
+        String text = TicketId.toText(tickets[parked - 1]);
+        long checksum = 0;
+        long start = 0;
+        for (int pass = 0; pass < 3; pass++) {
+            start = System.nanoTime();
+            for (int i = 0; i < parked; i++) {
+                checksum += TicketId.fromText(TicketId.toText(tickets[i]));
+            }
+        }
+        System.out.printf("Text code: %s (%d chars, QR alphanumeric), round trip %.1f ns (checksum %d)%n",
+            text, text.length(), (System.nanoTime() - start) / (double) parked, checksum);
+    }
+
+    private static double issue(int gates, boolean perGateBlocks) throws InterruptedException {
+        TicketSequencer sequencer = new TicketSequencer();
+        AtomicLong sharedCounter = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(gates);
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] workers = new Thread[gates];
+        long[] sinks = new long[gates * 16];
+        for (int g = 0; g < gates; g++) {
+            Gate gate = new Gate(g, 0, 0);
+            int slot = g * 16;
+            workers[g] = Thread.ofPlatform().start(() -> {
+                long sink = 0;
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < SEQUENCES_PER_GATE; i++) {
+                    sink += perGateBlocks ? sequencer.next(gate) : sharedCounter.incrementAndGet();
+                }
+                sinks[slot] = sink;
+            });
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return (System.nanoTime() - start) / ((double) gates * SEQUENCES_PER_GATE);
+    }
+}
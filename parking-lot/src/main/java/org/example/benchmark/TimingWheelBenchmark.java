@@ -0,0 +1,45 @@
+package org.example.benchmark;
+
+import org.example.reservation.HashedTimingWheel;
+
+import java.util.Random;
+
+// Schedules a few million timers spread over an hour, cancels half of them and then drives the
+// wheel to the end in one-second steps, reporting the cost per operation.
+public class TimingWheelBenchmark {
+    private static final int TIMERS = 2_000_000;
+    private static final long HORIZON_MILLIS = 3_600_000;
+    private static final long TICK_MILLIS = 100;
+    private static final long STEP_MILLIS = 1_000;
+
+    public static void main(String[] args) {
+        HashedTimingWheel timingWheel = new HashedTimingWheel(TICK_MILLIS, 4096, 0);
+        Random random = new Random(3);
+        int[] expired = new int[1];
+        Runnable onExpiry = () -> expired[0]++;
+        HashedTimingWheel.Timeout[] timeouts = new HashedTimingWheel.Timeout[TIMERS];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TIMERS; i++) {
+            timeouts[i] = timingWheel.schedule(onExpiry, 1 + (long) (random.nextDouble() * HORIZON_MILLIS));
+        }
+        long scheduleNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < TIMERS; i += 2) {
+            timeouts[i].cancel();
+        }
+        long cancelNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (long now = STEP_MILLIS; now <= HORIZON_MILLIS + STEP_MILLIS; now += STEP_MILLIS) {
+            timingWheel.advanceTo(now);
+        }
+        long advanceNanos = System.nanoTime() - start;
+
+        System.out.printf("Timers: %,d, expired: %,d, still pending: %,d%n",
+            TIMERS, expired[0], timingWheel.getPendingTimeouts());
+        System.out.printf("schedule: %,d ns/op, cancel: %,d ns/op, expiry sweep: %,d ns/expired timer%n",
+            scheduleNanos / TIMERS, cancelNanos / (TIMERS / 2), advanceNanos / Math.max(expired[0], 1));
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.benchmark;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.simulation.SimulationConfig;
+import org.example.simulation.SimulationReport;
+import org.example.simulation.TrafficSimulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Rush-hour run against the parking lot: a short warm-up followed by a measured run.
+// Usage: TrafficSimulation [entryGates] [exitGates] [arrivalsPerSecond] [seconds] [meanStayMillis]
+public class TrafficSimulation {
+    private static final int LEVELS = 4;
+    private static final int SPOTS_PER_LEVEL = 5_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int entryGates = argument(args, 0, 8);
+        int exitGates = argument(args, 1, 8);
+        int arrivalsPerSecond = argument(args, 2, 20_000);
+        int seconds = argument(args, 3, 10);
+        int meanStayMillis = argument(args, 4, 1_000);
+
+        ParkingLot parkingLot = new ParkingLot();
+        for (int floor = 0; floor < LEVELS; floor++) {
+            parkingLot.addLevel(new Level(floor, SPOTS_PER_LEVEL));
+        }
+        List<Gate> gates = new ArrayList<>();
+        for (int i = 0; i < entryGates; i++) {
+            Gate gate = new Gate(i, (i * 7) % 20, (i * 37) % (SPOTS_PER_LEVEL / 20));
+            parkingLot.addGate(gate);
+            gates.add(gate);
+        }
+
+        System.out.printf("Levels: %d x %,d spots, entry gates: %d, exit gates: %d, %,d arrivals/s, "
+            + "mean stay %,d ms%n", LEVELS, SPOTS_PER_LEVEL, entryGates, exitGates, arrivalsPerSecond, meanStayMillis);
+        SimulationConfig warmUp = new SimulationConfig(exitGates, arrivalsPerSecond, meanStayMillis, 3_000,
+            SimulationConfig.rushHourMix(), 1);
+        new TrafficSimulator(parkingLot, gates, warmUp).run();
+        SimulationConfig measured = new SimulationConfig(exitGates, arrivalsPerSecond, meanStayMillis,
+            seconds * 1_000L, SimulationConfig.rushHourMix(), 2);
+        SimulationReport report = new TrafficSimulator(parkingLot, gates, measured).run();
+        System.out.print(report);
+    }
+
+    private static int argument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
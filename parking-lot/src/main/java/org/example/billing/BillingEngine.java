@@ -0,0 +1,45 @@
+package org.example.billing;
+
+import org.example.Level;
+import org.example.ParkingEventListener;
+import org.example.ParkingSpot;
+import org.example.vehicle.Vehicle;
+
+// Prices every exit from the level's entry and exit stamps and appends the session to the log.
+// Stays are billed by the vehicle's own type, whatever spot type it ended up in.
+public class BillingEngine implements ParkingEventListener {
+    private final RateTable rateTable;
+    private final SessionLog sessionLog;
+
+    public BillingEngine(RateTable rateTable, SessionLog sessionLog) {
+        this.rateTable = rateTable;
+        this.sessionLog = sessionLog;
+    }
+
+    @Override
+    public void onVehicleParked(Level level, int spotIndex, Vehicle vehicle, long entryTime) {
+    }
+
+    @Override
+    public void onVehicleRemoved(Level level, int spotIndex, Vehicle vehicle, long entryTime, long exitTime) {
+        long feeCents = rateTable.feeCents(vehicle.getType(), entryTime, exitTime);
+        sessionLog.append(level.getFloor(), vehicle.getType(), entryTime, exitTime, feeCents);
+    }
+
+    // Fee the vehicle would pay if it left at the given time, or -1 when it is not parked on the level.
+    public long quoteFeeCents(Level level, Vehicle vehicle, long atMillis) {
+        ParkingSpot spot = level.getParkingSpot(vehicle);
+        if (spot == null) {
+            return -1;
+        }
+        return rateTable.feeCents(vehicle.getType(), spot.getEntryTime(), atMillis);
+    }
+
+    public RateTable getRateTable() {
+        return rateTable;
+    }
+
+    public SessionLog getSessionLog() {
+        return sessionLog;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.billing;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Tiered tariffs precomputed into one cumulative fee per minute of the first day for every vehicle
+// type. Pricing a stay is then a division and two array reads, with no allocation.
+public class RateTable {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final long[][] feeByMinute = new long[VEHICLE_TYPES.length][];
+
+    public RateTable(Map<VehicleType, List<RateTier>> tiers, Map<VehicleType, Long> dailyCapCents) {
+        for (VehicleType vehicleType : VEHICLE_TYPES) {
+            List<RateTier> typeTiers = tiers.get(vehicleType);
+            if (typeTiers == null || typeTiers.isEmpty()) {
+                throw new IllegalArgumentException("No rate tiers for " + vehicleType);
+            }
+            long cap = dailyCapCents.getOrDefault(vehicleType, Long.MAX_VALUE);
+            long[] fees = new long[MINUTES_PER_DAY + 1];
+            long centsPerHourMinutes = 0;
+            int tier = 0;
+            for (int minute = 1; minute <= MINUTES_PER_DAY; minute++) {
+                while (tier < typeTiers.size() - 1 && minute > typeTiers.get(tier).untilMinute()) {
+                    tier++;
+                }
+                centsPerHourMinutes += typeTiers.get(tier).centsPerHour();
+                fees[minute] = Math.min(Math.ceilDiv(centsPerHourMinutes, 60), cap);
+            }
+            feeByMinute[vehicleType.ordinal()] = fees;
+        }
+    }
+
+    public static RateTable standard() {
+        Map<VehicleType, List<RateTier>> tiers = new EnumMap<>(VehicleType.class);
+        tiers.put(VehicleType.MOTORCYCLE, List.of(new RateTier(60, 100), new RateTier(240, 75),
+            new RateTier(MINUTES_PER_DAY, 50)));
+        tiers.put(VehicleType.CAR, List.of(new RateTier(60, 300), new RateTier(240, 250),
+            new RateTier(MINUTES_PER_DAY, 150)));
+        tiers.put(VehicleType.TRUCK, List.of(new RateTier(60, 600), new RateTier(240, 500),
+            new RateTier(MINUTES_PER_DAY, 400)));
+        Map<VehicleType, Long> dailyCaps = new EnumMap<>(VehicleType.class);
+        dailyCaps.put(VehicleType.MOTORCYCLE, 800L);
+        dailyCaps.put(VehicleType.CAR, 2_500L);
+        dailyCaps.put(VehicleType.TRUCK, 6_000L);
+        return new RateTable(tiers, dailyCaps);
+    }
+
+    // Every started minute is billed; whole days are charged at the full-day fee.
+    public long feeCents(VehicleType vehicleType, long entryMillis, long exitMillis) {
+        long minutes = Math.ceilDiv(Math.max(exitMillis - entryMillis, 0), MILLIS_PER_MINUTE);
+        long[] fees = feeByMinute[vehicleType.ordinal()];
+        return (minutes / MINUTES_PER_DAY) * fees[MINUTES_PER_DAY] + fees[(int) (minutes % MINUTES_PER_DAY)];
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.billing;
+
+// Applies centsPerHour to every minute of a stay up to (but excluding) untilMinute.
+public record RateTier(int untilMinute, long centsPerHour) {
+}
@@ -0,0 +1,94 @@
+package org.example.billing;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Completed parking sessions stored column-wise in fixed-size chunks, so appending never copies
+// earlier sessions and the settlement job can split the log by index range.
+public class SessionLog {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private int size;
+
+    public synchronized void append(int floor, VehicleType vehicleType, long entryMillis, long exitMillis,
+                                    long feeCents) {
+        int index = size;
+        if ((index & CHUNK_MASK) == 0 && index >>> CHUNK_BITS == chunks.size()) {
+            chunks.add(new Chunk());
+        }
+        Chunk chunk = chunks.get(index >>> CHUNK_BITS);
+        int offset = index & CHUNK_MASK;
+        chunk.floors[offset] = floor;
+        chunk.vehicleTypes[offset] = (byte) vehicleType.ordinal();
+        chunk.entryTimes[offset] = entryMillis;
+        chunk.exitTimes[offset] = exitMillis;
+        chunk.fees[offset] = feeCents;
+        size = index + 1;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized void clear() {
+        chunks.clear();
+        size = 0;
+    }
+
+    // A stable, lock-free view of the sessions appended so far; later appends are not visible through it.
+    public synchronized View view() {
+        return new View(chunks.toArray(new Chunk[0]), size);
+    }
+
+    private static final class Chunk {
+        private final int[] floors = new int[CHUNK_SIZE];
+        private final byte[] vehicleTypes = new byte[CHUNK_SIZE];
+        private final long[] entryTimes = new long[CHUNK_SIZE];
+        private final long[] exitTimes = new long[CHUNK_SIZE];
+        private final long[] fees = new long[CHUNK_SIZE];
+    }
+
+    public static final class View {
+        private final Chunk[] chunks;
+        private final int size;
+
+        private View(Chunk[] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int getFloor(int index) {
+            return chunks[index >>> CHUNK_BITS].floors[index & CHUNK_MASK];
+        }
+
+        public VehicleType getVehicleType(int index) {
+            return VEHICLE_TYPES[chunks[index >>> CHUNK_BITS].vehicleTypes[index & CHUNK_MASK]];
+        }
+
+        public int getVehicleTypeOrdinal(int index) {
+            return chunks[index >>> CHUNK_BITS].vehicleTypes[index & CHUNK_MASK];
+        }
+
+        public long getEntryTime(int index) {
+            return chunks[index >>> CHUNK_BITS].entryTimes[index & CHUNK_MASK];
+        }
+
+        public long getExitTime(int index) {
+            return chunks[index >>> CHUNK_BITS].exitTimes[index & CHUNK_MASK];
+        }
+
+        public long getFeeCents(int index) {
+            return chunks[index >>> CHUNK_BITS].fees[index & CHUNK_MASK];
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.billing;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// End-of-day settlement: splits the session log by index range across a fork/join pool, sums
+// revenue per floor, vehicle type and exit hour in each leaf, and merges the partial tables.
+public class SettlementJob {
+    private static final int SEQUENTIAL_THRESHOLD = 32_768;
+    private static final long MILLIS_PER_HOUR = 3_600_000;
+
+    private final ForkJoinPool pool;
+
+    public SettlementJob(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SettlementReport settle(SessionLog sessionLog, LocalDate day, ZoneId zone) {
+        long dayStart = day.atStartOfDay(zone).toInstant().toEpochMilli();
+        long dayEnd = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        SessionLog.View sessions = sessionLog.view();
+        Partial partial = pool.invoke(new SettleTask(sessions, 0, sessions.size(), dayStart, dayEnd));
+        return new SettlementReport(day, partial.revenueByFloor, partial.sessionCount);
+    }
+
+    private static final class Partial {
+        private final Map<Integer, long[]> revenueByFloor = new HashMap<>();
+        private long sessionCount;
+
+        private void merge(Partial other) {
+            sessionCount += other.sessionCount;
+            for (Map.Entry<Integer, long[]> entry : other.revenueByFloor.entrySet()) {
+                long[] target = revenueByFloor.putIfAbsent(entry.getKey(), entry.getValue());
+                if (target != null) {
+                    long[] source = entry.getValue();
+                    for (int i = 0; i < target.length; i++) {
+                        target[i] += source[i];
+                    }
+                }
+            }
+        }
+    }
+
+    // Only ever run inside the pool, never serialized.
+    @SuppressWarnings("serial")
+    private static final class SettleTask extends RecursiveTask<Partial> {
+        private final SessionLog.View sessions;
+        private final int from;
+        private final int to;
+        private final long dayStart;
+        private final long dayEnd;
+
+        private SettleTask(SessionLog.View sessions, int from, int to, long dayStart, long dayEnd) {
+            this.sessions = sessions;
+            this.from = from;
+            this.to = to;
+            this.dayStart = dayStart;
+            this.dayEnd = dayEnd;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return settleRange();
+            }
+            int middle = (from + to) >>> 1;
+            SettleTask left = new SettleTask(sessions, from, middle, dayStart, dayEnd);
+            left.fork();
+            Partial right = new SettleTask(sessions, middle, to, dayStart, dayEnd).compute();
+            Partial result = left.join();
+            result.merge(right);
+            return result;
+        }
+
+        private Partial settleRange() {
+            Partial partial = new Partial();
+            int currentFloor = 0;
+            long[] currentRevenue = null;
+            for (int i = from; i < to; i++) {
+                long exitTime = sessions.getExitTime(i);
+                if (exitTime < dayStart || exitTime >= dayEnd) {
+                    continue;
+                }
+                int floor = sessions.getFloor(i);
+                if (currentRevenue == null || floor != currentFloor) {
+                    currentFloor = floor;
+                    currentRevenue = partial.revenueByFloor.computeIfAbsent(floor,
+                        key -> new long[SettlementReport.bucketCount()]);
+                }
+                int hour = (int) ((exitTime - dayStart) / MILLIS_PER_HOUR);
+                currentRevenue[SettlementReport.bucket(sessions.getVehicleTypeOrdinal(i), hour)] +=
+                    sessions.getFeeCents(i);
+                partial.sessionCount++;
+            }
+            return partial;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.billing;
+
+import org.example.vehicle.VehicleType;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Revenue for one settlement day per floor, vehicle type and hour of exit. Hours are counted from
+// local midnight, so a day with a daylight-saving shift can use hour 24.
+public class SettlementReport {
+    public static final int HOURS = 25;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private final LocalDate day;
+    private final Map<Integer, long[]> revenueByFloor;
+    private final long sessionCount;
+
+    SettlementReport(LocalDate day, Map<Integer, long[]> revenueByFloor, long sessionCount) {
+        this.day = day;
+        this.revenueByFloor = new TreeMap<>(revenueByFloor);
+        this.sessionCount = sessionCount;
+    }
+
+    static int bucket(int vehicleTypeOrdinal, int hour) {
+        return vehicleTypeOrdinal * HOURS + hour;
+    }
+
+    static int bucketCount() {
+        return VEHICLE_TYPES.length * HOURS;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public long getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getRevenueCents(int floor, VehicleType vehicleType, int hour) {
+        long[] revenue = revenueByFloor.get(floor);
+        return revenue == null ? 0 : revenue[bucket(vehicleType.ordinal(), hour)];
+    }
+
+    public long getRevenueCents(int floor) {
+        long total = 0;
+        long[] revenue = revenueByFloor.get(floor);
+        if (revenue != null) {
+            for (long cents : revenue) {
+                total += cents;
+            }
+        }
+        return total;
+    }
+
+    public long getRevenueCents(VehicleType vehicleType) {
+        long total = 0;
+        for (long[] revenue : revenueByFloor.values()) {
+            for (int hour = 0; hour < HOURS; hour++) {
+                total += revenue[bucket(vehicleType.ordinal(), hour)];
+            }
+        }
+        return total;
+    }
+
+    public long getTotalRevenueCents() {
+        long total = 0;
+        for (int floor : revenueByFloor.keySet()) {
+            total += getRevenueCents(floor);
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Settlement for ").append(day).append(": ")
+            .append(sessionCount).append(" sessions, ").append(formatCents(getTotalRevenueCents()));
+        for (int floor : revenueByFloor.keySet()) {
+            builder.append(System.lineSeparator()).append("  Floor ").append(floor).append(':');
+            for (VehicleType vehicleType : VEHICLE_TYPES) {
+                long typeRevenue = 0;
+                for (int hour = 0; hour < HOURS; hour++) {
+                    typeRevenue += getRevenueCents(floor, vehicleType, hour);
+                }
+                builder.append(' ').append(vehicleType).append('=').append(formatCents(typeRevenue));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String formatCents(long cents) {
+        return String.format("%d.%02d", cents / 100, cents % 100);
+    }
+}
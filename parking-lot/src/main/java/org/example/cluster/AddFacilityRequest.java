@@ -0,0 +1,5 @@
+package org.example.cluster;
+
+public record AddFacilityRequest(String facilityId, double latitude, double longitude, int levels,
+                                 int spotsPerLevel) implements NodeRequest<Boolean> {
+}
@@ -0,0 +1,4 @@
+package org.example.cluster;
+
+public record AvailabilityRequest() implements NodeRequest<NodeAvailability> {
+}
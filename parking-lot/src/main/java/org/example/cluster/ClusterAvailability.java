@@ -0,0 +1,30 @@
+package org.example.cluster;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Cluster-wide free spots gathered from every node, plus the per-node replies it was built from.
+public record ClusterAvailability(Map<VehicleType, Integer> freeSpots, int facilityCount,
+                                  List<NodeAvailability> nodes) {
+    public ClusterAvailability {
+        freeSpots = Map.copyOf(freeSpots);
+        nodes = List.copyOf(nodes);
+    }
+
+    static ClusterAvailability combine(List<NodeAvailability> nodes) {
+        Map<VehicleType, Integer> freeSpots = new EnumMap<>(VehicleType.class);
+        int facilityCount = 0;
+        for (NodeAvailability node : nodes) {
+            facilityCount += node.facilityCount();
+            node.freeSpots().forEach((spotType, free) -> freeSpots.merge(spotType, free, Integer::sum));
+        }
+        return new ClusterAvailability(freeSpots, facilityCount, nodes);
+    }
+
+    public int getFreeSpots(VehicleType spotType) {
+        return freeSpots.getOrDefault(spotType, 0);
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.cluster;
+
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.facility.Facility;
+import org.example.facility.FacilityRegistry;
+import org.example.plate.ParkedVehicle;
+import org.example.plate.PlateClaim;
+import org.example.plate.PlateIndex;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleFactory;
+import org.example.vehicle.VehicleType;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Owns a partition of the facilities. Every request runs on the node's own thread, one at a time,
+// so the node's maps need no locking and nothing is shared with other nodes.
+public class ClusterNode implements AutoCloseable {
+    private final String id;
+    private final ExecutorService mailbox;
+    private final FacilityRegistry facilities = new FacilityRegistry();
+    private final Map<String, PlateIndex> plateIndexes = new HashMap<>();
+
+    ClusterNode(String id) {
+        this.id = id;
+        this.mailbox = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "node-" + id);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    <R> CompletableFuture<R> submit(NodeRequest<R> request) {
+        return CompletableFuture.supplyAsync(() -> handle(request), mailbox);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R handle(NodeRequest<R> request) {
+        Object reply = switch (request) {
+            case AddFacilityRequest add -> addFacility(add);
+            case ParkRequest park -> park(park);
+            case ExitRequest exit -> exit(exit);
+            case AvailabilityRequest availability -> availability();
+        };
+        return (R) reply;
+    }
+
+    private boolean addFacility(AddFacilityRequest request) {
+        if (facilities.getFacility(request.facilityId()) != null) {
+            return false;
+        }
+        ParkingLot parkingLot = facilities.register(request.facilityId(), request.latitude(), request.longitude())
+            .getParkingLot();
+        for (int floor = 0; floor < request.levels(); floor++) {
+            parkingLot.addLevel(new Level(floor, request.spotsPerLevel()));
+        }
+        plateIndexes.put(request.facilityId(), PlateIndex.attachTo(parkingLot));
+        return true;
+    }
+
+    // A plate already parked, or being parked, in the facility is refused, as in the gate API.
+    private ParkReply park(ParkRequest request) {
+        ParkingLot parkingLot = requireParkingLot(request.facilityId());
+        try (PlateClaim claim = plateIndexes.get(request.facilityId()).claim(request.licensePlate())) {
+            if (claim == null) {
+                return new ParkReply(id, false, -1, -1);
+            }
+            Vehicle vehicle = VehicleFactory.createVehicle(request.vehicleType(), request.licensePlate());
+            if (parkingLot.tryParkVehicle(vehicle, null) == null) {
+                return new ParkReply(id, false, -1, -1);
+            }
+            ParkedVehicle parkedVehicle = claim.getParkedVehicle();
+            return new ParkReply(id, true, parkedVehicle.floor(), parkedVehicle.spotIndex());
+        }
+    }
+
+    private boolean exit(ExitRequest request) {
+        ParkingLot parkingLot = requireParkingLot(request.facilityId());
+        ParkedVehicle parkedVehicle = plateIndexes.get(request.facilityId()).find(request.licensePlate());
+        return parkedVehicle != null && parkingLot.getLevel(parkedVehicle.floor()).removeVehicle(parkedVehicle.vehicle());
+    }
+
+    private NodeAvailability availability() {
+        Map<VehicleType, Integer> freeSpots = new EnumMap<>(VehicleType.class);
+        for (VehicleType spotType : VehicleType.values()) {
+            freeSpots.put(spotType, 0);
+        }
+        for (Facility facility : facilities.getFacilities()) {
+            for (Level level : facility.getParkingLot().getOpenLevels()) {
+                for (VehicleType spotType : VehicleType.values()) {
+                    freeSpots.merge(spotType, level.getAvailableSpots(spotType), Integer::sum);
+                }
+            }
+        }
+        return new NodeAvailability(id, facilities.size(), freeSpots);
+    }
+
+    private ParkingLot requireParkingLot(String facilityId) {
+        ParkingLot parkingLot = facilities.getParkingLot(facilityId);
+        if (parkingLot == null) {
+            throw new IllegalArgumentException("Facility " + facilityId + " is not owned by node " + id);
+        }
+        return parkingLot;
+    }
+
+    @Override
+    public void close() {
+        mailbox.shutdownNow();
+    }
+}
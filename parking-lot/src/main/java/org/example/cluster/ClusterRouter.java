@@ -0,0 +1,61 @@
+package org.example.cluster;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Client-side entry point: sends each facility request to the node that owns the facility on the
+// hash ring, and answers cluster-wide questions by scatter-gather over all nodes. The ring is
+// fixed when the router is built; moving facilities between nodes when nodes join is not modelled.
+public class ClusterRouter {
+    private final ClusterTransport transport;
+    private final ConsistentHashRing ring;
+
+    public ClusterRouter(ClusterTransport transport) {
+        this(transport, new ConsistentHashRing(transport.getNodeIds()));
+    }
+
+    public ClusterRouter(ClusterTransport transport, ConsistentHashRing ring) {
+        this.transport = transport;
+        this.ring = ring;
+    }
+
+    public String ownerOf(String facilityId) {
+        return ring.ownerOf(facilityId);
+    }
+
+    public CompletableFuture<Boolean> addFacility(String facilityId, double latitude, double longitude, int levels,
+                                                  int spotsPerLevel) {
+        return send(facilityId, new AddFacilityRequest(facilityId, latitude, longitude, levels, spotsPerLevel));
+    }
+
+    public CompletableFuture<ParkReply> park(String facilityId, VehicleType vehicleType, String licensePlate) {
+        return send(facilityId, new ParkRequest(facilityId, vehicleType, licensePlate));
+    }
+
+    public CompletableFuture<Boolean> exit(String facilityId, String licensePlate) {
+        return send(facilityId, new ExitRequest(facilityId, licensePlate));
+    }
+
+    // Asks every node in parallel and completes when the last one has replied.
+    public CompletableFuture<ClusterAvailability> availability() {
+        List<CompletableFuture<NodeAvailability>> replies = new ArrayList<>();
+        for (String nodeId : ring.getNodeIds()) {
+            replies.add(transport.send(nodeId, new AvailabilityRequest()));
+        }
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                List<NodeAvailability> nodes = new ArrayList<>(replies.size());
+                for (CompletableFuture<NodeAvailability> reply : replies) {
+                    nodes.add(reply.join());
+                }
+                return ClusterAvailability.combine(nodes);
+            });
+    }
+
+    private <R> CompletableFuture<R> send(String facilityId, NodeRequest<R> request) {
+        return transport.send(ring.ownerOf(facilityId), request);
+    }
+}
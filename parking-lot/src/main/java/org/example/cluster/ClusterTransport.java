@@ -0,0 +1,12 @@
+package org.example.cluster;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+// How the router reaches nodes. LocalTransport delivers in-process; a networked implementation
+// would serialize the request records and complete the future when the reply arrives.
+public interface ClusterTransport {
+    <R> CompletableFuture<R> send(String nodeId, NodeRequest<R> request);
+
+    Set<String> getNodeIds();
+}
@@ -0,0 +1,91 @@
+package org.example.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+// Maps keys (facility ids) to node ids. Each node is placed on the ring at virtualNodes points so
+// ownership stays even with few nodes, and adding a node only moves the keys it takes over. The
+// ring is immutable; lookups are a binary search over sorted arrays.
+public final class ConsistentHashRing {
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    private final long[] points;
+    private final String[] owners;
+    private final Set<String> nodeIds;
+    private final int virtualNodes;
+
+    public ConsistentHashRing(Collection<String> nodeIds) {
+        this(nodeIds, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty() || virtualNodes <= 0) {
+            throw new IllegalArgumentException("A ring needs at least one node and one virtual node per node");
+        }
+        this.nodeIds = Set.copyOf(new HashSet<>(nodeIds));
+        this.virtualNodes = virtualNodes;
+        String[] sortedIds = this.nodeIds.toArray(new String[0]);
+        Arrays.sort(sortedIds);
+        long[] unsortedPoints = new long[sortedIds.length * virtualNodes];
+        String[] unsortedOwners = new String[unsortedPoints.length];
+        Integer[] order = new Integer[unsortedPoints.length];
+        for (int n = 0; n < sortedIds.length; n++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                int i = n * virtualNodes + v;
+                unsortedPoints[i] = hash(sortedIds[n] + '#' + v);
+                unsortedOwners[i] = sortedIds[n];
+                order[i] = i;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(unsortedPoints[a], unsortedPoints[b]));
+        points = new long[order.length];
+        owners = new String[order.length];
+        for (int i = 0; i < order.length; i++) {
+            points[i] = unsortedPoints[order[i]];
+            owners[i] = unsortedOwners[order[i]];
+        }
+    }
+
+    public ConsistentHashRing withNode(String nodeId) {
+        Set<String> ids = new HashSet<>(nodeIds);
+        ids.add(nodeId);
+        return new ConsistentHashRing(ids, virtualNodes);
+    }
+
+    public ConsistentHashRing withoutNode(String nodeId) {
+        Set<String> ids = new HashSet<>(nodeIds);
+        ids.remove(nodeId);
+        return new ConsistentHashRing(ids, virtualNodes);
+    }
+
+    // The first point clockwise from the key's hash owns it.
+    public String ownerOf(String key) {
+        int i = Arrays.binarySearch(points, hash(key));
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return owners[i == points.length ? 0 : i];
+    }
+
+    public Set<String> getNodeIds() {
+        return nodeIds;
+    }
+
+    // FNV-1a followed by a 64-bit finalizer so similar ids ("f-1", "f-2") land far apart.
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
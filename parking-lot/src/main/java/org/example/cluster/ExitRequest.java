@@ -0,0 +1,4 @@
+package org.example.cluster;
+
+public record ExitRequest(String facilityId, String licensePlate) implements NodeRequest<Boolean> {
+}
@@ -0,0 +1,42 @@
+package org.example.cluster;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-process stand-in for a network: hands each request to the target node's mailbox.
+public class LocalTransport implements ClusterTransport, AutoCloseable {
+    private final Map<String, ClusterNode> nodes = new ConcurrentHashMap<>();
+
+    public ClusterNode startNode(String nodeId) {
+        ClusterNode node = new ClusterNode(nodeId);
+        if (nodes.putIfAbsent(nodeId, node) != null) {
+            node.close();
+            throw new IllegalArgumentException("Node " + nodeId + " already exists");
+        }
+        return node;
+    }
+
+    @Override
+    public <R> CompletableFuture<R> send(String nodeId, NodeRequest<R> request) {
+        ClusterNode node = nodes.get(nodeId);
+        if (node == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown node " + nodeId));
+        }
+        return node.submit(request);
+    }
+
+    @Override
+    public Set<String> getNodeIds() {
+        return Set.copyOf(nodes.keySet());
+    }
+
+    @Override
+    public void close() {
+        for (ClusterNode node : nodes.values()) {
+            node.close();
+        }
+        nodes.clear();
+    }
+}
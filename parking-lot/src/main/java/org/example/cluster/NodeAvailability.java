@@ -0,0 +1,12 @@
+package org.example.cluster;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.Map;
+
+// Free spots per spot type over all facilities a node owns.
+public record NodeAvailability(String nodeId, int facilityCount, Map<VehicleType, Integer> freeSpots) {
+    public NodeAvailability {
+        freeSpots = Map.copyOf(freeSpots);
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.cluster;
+
+// A message a node can handle, typed by its reply. Requests and replies are immutable records
+// holding only plain values, so a network transport could serialize them unchanged.
+public sealed interface NodeRequest<R> permits AddFacilityRequest, ParkRequest, ExitRequest, AvailabilityRequest {
+}
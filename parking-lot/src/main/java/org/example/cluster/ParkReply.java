@@ -0,0 +1,5 @@
+package org.example.cluster;
+
+// floor and spotIndex are -1 when the vehicle was not parked.
+public record ParkReply(String nodeId, boolean parked, int floor, int spotIndex) {
+}
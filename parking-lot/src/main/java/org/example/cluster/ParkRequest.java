@@ -0,0 +1,7 @@
+package org.example.cluster;
+
+import org.example.vehicle.VehicleType;
+
+public record ParkRequest(String facilityId, VehicleType vehicleType, String licensePlate)
+    implements NodeRequest<ParkReply> {
+}
@@ -0,0 +1,50 @@
+package org.example.facility;
+
+import org.example.ParkingLot;
+
+public class Facility {
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final String id;
+    private final double latitude;
+    private final double longitude;
+    private final ParkingLot parkingLot;
+
+    Facility(String id, double latitude, double longitude, ParkingLot parkingLot) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.parkingLot = parkingLot;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public ParkingLot getParkingLot() {
+        return parkingLot;
+    }
+
+    // Great-circle (haversine) distance.
+    public double distanceKmTo(double latitude, double longitude) {
+        double deltaLatitude = Math.toRadians(latitude - this.latitude);
+        double deltaLongitude = Math.toRadians(longitude - this.longitude);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+            + Math.cos(Math.toRadians(this.latitude)) * Math.cos(Math.toRadians(latitude))
+            * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    @Override
+    public String toString() {
+        return "Facility " + id + " at (" + latitude + ", " + longitude + ")";
+    }
+}
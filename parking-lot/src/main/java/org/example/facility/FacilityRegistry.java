@@ -0,0 +1,59 @@
+package org.example.facility;
+
+import org.example.ParkingLot;
+import org.example.vehicle.VehicleType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Hosts independent parking lots keyed by facility id. Routing a request is a ConcurrentHashMap
+// read, and each lot has its own levels, gates, listeners and indices, so traffic at one facility
+// never takes a lock that another facility uses.
+public class FacilityRegistry {
+    private final Map<String, Facility> facilities = new ConcurrentHashMap<>();
+
+    public Facility register(String facilityId, double latitude, double longitude) {
+        Facility facility = new Facility(facilityId, latitude, longitude, new ParkingLot());
+        if (facilities.putIfAbsent(facilityId, facility) != null) {
+            throw new IllegalArgumentException("Facility " + facilityId + " is already registered");
+        }
+        return facility;
+    }
+
+    public Facility remove(String facilityId) {
+        return facilities.remove(facilityId);
+    }
+
+    public Facility getFacility(String facilityId) {
+        return facilities.get(facilityId);
+    }
+
+    public ParkingLot getParkingLot(String facilityId) {
+        Facility facility = facilities.get(facilityId);
+        return facility == null ? null : facility.getParkingLot();
+    }
+
+    public List<Facility> getFacilities() {
+        return List.copyOf(facilities.values());
+    }
+
+    public int size() {
+        return facilities.size();
+    }
+
+    // Reads only the per-level availability counters, so it can run alongside parking at every
+    // facility. Returns null when no facility has room.
+    public Facility findNearestWithFreeSpot(VehicleType vehicleType, double latitude, double longitude) {
+        Facility nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (Facility facility : facilities.values()) {
+            double distance = facility.distanceKmTo(latitude, longitude);
+            if (distance < nearestDistance && facility.getParkingLot().hasFreeSpot(vehicleType)) {
+                nearest = facility;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+}
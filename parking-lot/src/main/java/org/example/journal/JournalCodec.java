@@ -0,0 +1,106 @@
+package org.example.journal;
+
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+// Record layout: short payload length, payload, int CRC32C of the payload.
+// Payload: byte kind, long lsn, int floor, int spotIndex, byte vehicleType, long timestamp, plate.
+// Plates are written as a byte length followed by the plate bytes (ASCII fast path, UTF-8 otherwise).
+// Records are encoded inside parking listeners, after the spot is taken, so encoding never throws.
+final class JournalCodec {
+    static final byte PARK = 1;
+    static final byte UNPARK = 2;
+    static final int MAX_PLATE_BYTES = Vehicle.MAX_LICENSE_PLATE_BYTES;
+    static final int MAX_RECORD_BYTES = Short.BYTES + 1 + Long.BYTES + Integer.BYTES * 2 + 1 + Long.BYTES
+        + 1 + MAX_PLATE_BYTES + Integer.BYTES;
+
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private JournalCodec() {
+    }
+
+    static void writeRecord(ByteBuffer buffer, CRC32C crc, byte kind, long lsn, int floor, int spotIndex,
+                            VehicleType vehicleType, long timestamp, String licensePlate) {
+        int lengthPosition = buffer.position();
+        buffer.putShort((short) 0);
+        int payloadStart = buffer.position();
+        buffer.put(kind);
+        buffer.putLong(lsn);
+        buffer.putInt(floor);
+        buffer.putInt(spotIndex);
+        buffer.put((byte) vehicleType.ordinal());
+        buffer.putLong(timestamp);
+        putPlate(buffer, licensePlate);
+        int payloadEnd = buffer.position();
+        buffer.putShort(lengthPosition, (short) (payloadEnd - payloadStart));
+        crc.reset();
+        crc.update(buffer.slice(payloadStart, payloadEnd - payloadStart));
+        buffer.putInt((int) crc.getValue());
+    }
+
+    // Returns false when the buffer holds no complete, intact record at its position (end of log or torn write).
+    static boolean readRecord(ByteBuffer buffer, CRC32C crc, JournalRecord record) {
+        if (buffer.remaining() < Short.BYTES) {
+            return false;
+        }
+        int start = buffer.position();
+        int payloadLength = buffer.getShort(start) & 0xFFFF;
+        if (payloadLength == 0 || buffer.remaining() < Short.BYTES + payloadLength + Integer.BYTES) {
+            return false;
+        }
+        int payloadStart = start + Short.BYTES;
+        crc.reset();
+        crc.update(buffer.slice(payloadStart, payloadLength));
+        if ((int) crc.getValue() != buffer.getInt(payloadStart + payloadLength)) {
+            return false;
+        }
+        buffer.position(payloadStart);
+        record.kind = buffer.get();
+        record.lsn = buffer.getLong();
+        record.floor = buffer.getInt();
+        record.spotIndex = buffer.getInt();
+        record.vehicleType = VEHICLE_TYPES[buffer.get()];
+        record.timestamp = buffer.getLong();
+        record.licensePlate = getPlate(buffer);
+        buffer.position(payloadStart + payloadLength + Integer.BYTES);
+        return true;
+    }
+
+    static void putPlate(ByteBuffer buffer, String licensePlate) {
+        int length = licensePlate.length();
+        boolean ascii = length <= MAX_PLATE_BYTES;
+        for (int i = 0; ascii && i < length; i++) {
+            ascii = licensePlate.charAt(i) < 0x80;
+        }
+        if (ascii) {
+            buffer.put((byte) length);
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) licensePlate.charAt(i));
+            }
+            return;
+        }
+        // Vehicle refuses longer plates; should one get through anyway, keep the longest prefix of
+        // whole characters that fits rather than fail the park that has already happened.
+        byte[] bytes = licensePlate.getBytes(StandardCharsets.UTF_8);
+        int fitting = bytes.length;
+        if (fitting > MAX_PLATE_BYTES) {
+            fitting = MAX_PLATE_BYTES;
+            while ((bytes[fitting] & 0xC0) == 0x80) {
+                fitting--;
+            }
+        }
+        buffer.put((byte) fitting);
+        buffer.put(bytes, 0, fitting);
+    }
+
+    static String getPlate(ByteBuffer buffer) {
+        int length = buffer.get() & 0xFF;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.journal;
+
+import org.example.vehicle.VehicleType;
+
+// Mutable holder reused while replaying, so reading the log does not allocate a record per event.
+final class JournalRecord {
+    byte kind;
+    long lsn;
+    int floor;
+    int spotIndex;
+    VehicleType vehicleType;
+    long timestamp;
+    String licensePlate;
+}
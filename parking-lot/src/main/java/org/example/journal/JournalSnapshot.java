@@ -0,0 +1,113 @@
+package org.example.journal;
+
+import org.example.Level;
+import org.example.vehicle.VehicleFactory;
+import org.example.vehicle.VehicleType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Snapshot layout: int magic, int version, int levelCount, then per level: int floor, long lastLsn,
+// int occupiedCount and one (int spotIndex, byte vehicleType, long entryTime, plate) entry per occupied spot.
+final class JournalSnapshot {
+    private static final int MAGIC = 0x504C534E;
+    private static final int VERSION = 1;
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int MAX_ENTRY_BYTES = Integer.BYTES + 1 + Long.BYTES + 1 + JournalCodec.MAX_PLATE_BYTES;
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    private JournalSnapshot() {
+    }
+
+    // Each level is captured under its own monitor together with the journal position it reflects.
+    static void write(Path target, Iterable<Level> levels, int levelCount, Map<Integer, AtomicLong> lastLsnByFloor)
+        throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(levelCount);
+            for (Level level : levels) {
+                synchronized (level) {
+                    AtomicLong lastLsn = lastLsnByFloor.get(level.getFloor());
+                    int occupied = 0;
+                    for (VehicleType vehicleType : VEHICLE_TYPES) {
+                        occupied += level.getParkedVehicles(vehicleType);
+                    }
+                    ensureRemaining(channel, buffer, Integer.BYTES + Long.BYTES + Integer.BYTES);
+                    buffer.putInt(level.getFloor()).putLong(lastLsn == null ? 0 : lastLsn.get()).putInt(occupied);
+                    try {
+                        level.visitOccupiedSpots((spotIndex, vehicle, entryTime) -> {
+                            ensureRemainingUnchecked(channel, buffer, MAX_ENTRY_BYTES);
+                            buffer.putInt(spotIndex).put((byte) vehicle.getType().ordinal()).putLong(entryTime);
+                            JournalCodec.putPlate(buffer, vehicle.getLicensePlate());
+                        });
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static void load(Path source, Map<Integer, Level> levelsByFloor, Map<Integer, Long> lastLsnByFloor)
+        throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a parking snapshot: " + source);
+            }
+            int levelCount = buffer.getInt();
+            for (int i = 0; i < levelCount; i++) {
+                int floor = buffer.getInt();
+                long lastLsn = buffer.getLong();
+                int occupied = buffer.getInt();
+                Level level = levelsByFloor.get(floor);
+                lastLsnByFloor.put(floor, lastLsn);
+                for (int j = 0; j < occupied; j++) {
+                    int spotIndex = buffer.getInt();
+                    VehicleType vehicleType = VEHICLE_TYPES[buffer.get()];
+                    long entryTime = buffer.getLong();
+                    String licensePlate = JournalCodec.getPlate(buffer);
+                    if (level != null) {
+                        level.restoreVehicle(spotIndex, VehicleFactory.createVehicle(vehicleType, licensePlate), entryTime);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void ensureRemainingUnchecked(FileChannel channel, ByteBuffer buffer, int bytes) {
+        try {
+            ensureRemaining(channel, buffer, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,288 @@
+package org.example.journal;
+
+import org.example.Level;
+import org.example.ParkingEventListener;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+// Append-only journal of park and unpark events with periodic occupancy snapshots.
+//
+// Events are encoded into an in-memory buffer while the level monitor is held and are written and
+// forced to disk in groups every groupCommitMillis, so a crash can lose at most that window.
+// Every record carries a log sequence number (LSN). A snapshot stores, per level, the last LSN it
+// reflects, so replay after a snapshot skips records the snapshot already contains.
+public class ParkingJournal implements ParkingEventListener, Closeable {
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int INITIAL_BUFFER_BYTES = 1 << 16;
+
+    private final Path directory;
+    private final List<Level> levels;
+    private final Map<Integer, AtomicLong> lastLsnByFloor = new ConcurrentHashMap<>();
+    private final Object appendLock = new Object();
+    private final Object writeLock = new Object();
+    private final CRC32C appendCrc = new CRC32C();
+    private final ScheduledExecutorService scheduler;
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private long lastLsn;
+    private volatile long durableLsn;
+    private FileChannel segment;
+
+    private ParkingJournal(Path directory, List<Level> levels) {
+        this.directory = directory;
+        this.levels = List.copyOf(levels);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "parking-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Recovers the given levels from the directory, then journals every later event on them.
+    // Levels must be registered with the parking lot before the journal is opened.
+    public static ParkingJournal open(Path directory, List<Level> levels, long groupCommitMillis,
+                                      long snapshotIntervalMillis) throws IOException {
+        Files.createDirectories(directory);
+        ParkingJournal journal = new ParkingJournal(directory, levels);
+        journal.recover();
+        journal.startSegment(journal.lastLsn + 1);
+        for (Level level : journal.levels) {
+            level.addParkingEventListener(journal);
+        }
+        journal.scheduler.scheduleWithFixedDelay(journal::flushQuietly, groupCommitMillis, groupCommitMillis,
+            TimeUnit.MILLISECONDS);
+        if (snapshotIntervalMillis > 0) {
+            journal.scheduler.scheduleWithFixedDelay(journal::snapshotQuietly, snapshotIntervalMillis,
+                snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return journal;
+    }
+
+    @Override
+    public void onVehicleParked(Level level, int spotIndex, Vehicle vehicle, long entryTime) {
+        append(JournalCodec.PARK, level.getFloor(), spotIndex, vehicle, entryTime);
+    }
+
+    @Override
+    public void onVehicleRemoved(Level level, int spotIndex, Vehicle vehicle, long entryTime, long exitTime) {
+        append(JournalCodec.UNPARK, level.getFloor(), spotIndex, vehicle, exitTime);
+    }
+
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            writeBatch();
+        }
+    }
+
+    public void snapshot() throws IOException {
+        synchronized (writeLock) {
+            long rollLsn = writeBatch();
+            segment.close();
+            List<Path> obsoleteSegments = listFiles(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+            List<Path> obsoleteSnapshots = listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+            startSegment(rollLsn + 1);
+            JournalSnapshot.write(directory.resolve(fileName(SNAPSHOT_PREFIX, rollLsn, SNAPSHOT_SUFFIX)), levels,
+                levels.size(), lastLsnByFloor);
+            for (Path path : obsoleteSegments) {
+                Files.deleteIfExists(path);
+            }
+            for (Path path : obsoleteSnapshots) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    public long getDurableLsn() {
+        return durableLsn;
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        for (Level level : levels) {
+            level.removeParkingEventListener(this);
+        }
+        synchronized (writeLock) {
+            writeBatch();
+            segment.close();
+        }
+    }
+
+    private void append(byte kind, int floor, int spotIndex, Vehicle vehicle, long timestamp) {
+        synchronized (appendLock) {
+            if (pending.remaining() < JournalCodec.MAX_RECORD_BYTES) {
+                ByteBuffer larger = ByteBuffer.allocate(pending.capacity() * 2);
+                larger.put(pending.flip());
+                pending = larger;
+            }
+            long lsn = ++lastLsn;
+            JournalCodec.writeRecord(pending, appendCrc, kind, lsn, floor, spotIndex, vehicle.getType(), timestamp,
+                vehicle.getLicensePlate());
+            lastLsnByFloor.computeIfAbsent(floor, key -> new AtomicLong()).set(lsn);
+        }
+    }
+
+    // Swaps the append buffer out and writes it to the current segment. Caller holds writeLock. If
+    // the write or force fails, the bytes not yet written go back in front of the append buffer, so
+    // the next flush retries them and no LSN is skipped; durableLsn only moves after a force.
+    private long writeBatch() throws IOException {
+        ByteBuffer batch;
+        long batchLsn;
+        synchronized (appendLock) {
+            batchLsn = lastLsn;
+            if (pending.position() == 0) {
+                return batchLsn;
+            }
+            batch = pending;
+            pending = spare;
+            spare = null;
+        }
+        boolean written = false;
+        try {
+            batch.flip();
+            while (batch.hasRemaining()) {
+                segment.write(batch);
+            }
+            segment.force(false);
+            durableLsn = batchLsn;
+            written = true;
+        } finally {
+            synchronized (appendLock) {
+                if (written) {
+                    batch.clear();
+                    spare = batch;
+                } else {
+                    requeue(batch);
+                }
+            }
+        }
+        return batchLsn;
+    }
+
+    // Puts the unwritten rest of a failed batch ahead of the records appended since it was swapped
+    // out. Bytes already written stay in the segment, so the retry continues the same stream; after
+    // a failed force nothing is left to requeue and the next force covers those bytes. Caller holds
+    // appendLock.
+    private void requeue(ByteBuffer batch) {
+        ByteBuffer newer = pending.flip();
+        batch.compact();
+        int needed = batch.position() + newer.remaining() + JournalCodec.MAX_RECORD_BYTES;
+        ByteBuffer retained = batch;
+        if (batch.capacity() < needed) {
+            retained = ByteBuffer.allocate(Integer.highestOneBit(needed) << 1);
+            retained.put(batch.flip());
+        }
+        retained.put(newer);
+        newer.clear();
+        spare = newer;
+        pending = retained;
+    }
+
+    private void recover() throws IOException {
+        Map<Integer, Level> levelsByFloor = new HashMap<>();
+        for (Level level : levels) {
+            levelsByFloor.put(level.getFloor(), level);
+        }
+        Map<Integer, Long> snapshotLsnByFloor = new HashMap<>();
+        List<Path> snapshots = listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        if (!snapshots.isEmpty()) {
+            Path latest = snapshots.get(snapshots.size() - 1);
+            JournalSnapshot.load(latest, levelsByFloor, snapshotLsnByFloor);
+            lastLsn = lsnOf(latest, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        }
+        for (Map.Entry<Integer, Long> entry : snapshotLsnByFloor.entrySet()) {
+            lastLsnByFloor.put(entry.getKey(), new AtomicLong(entry.getValue()));
+            lastLsn = Math.max(lastLsn, entry.getValue());
+        }
+
+        CRC32C crc = new CRC32C();
+        JournalRecord record = new JournalRecord();
+        for (Path segmentPath : listFiles(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (JournalCodec.readRecord(buffer, crc, record)) {
+                    lastLsn = Math.max(lastLsn, record.lsn);
+                    if (record.lsn <= snapshotLsnByFloor.getOrDefault(record.floor, 0L)) {
+                        continue;
+                    }
+                    lastLsnByFloor.computeIfAbsent(record.floor, key -> new AtomicLong()).set(record.lsn);
+                    Level level = levelsByFloor.get(record.floor);
+                    if (level == null) {
+                        continue;
+                    }
+                    if (record.kind == JournalCodec.PARK) {
+                        level.restoreVehicle(record.spotIndex,
+                            VehicleFactory.createVehicle(record.vehicleType, record.licensePlate), record.timestamp);
+                    } else {
+                        level.restoreRemoval(record.spotIndex);
+                    }
+                }
+            }
+        }
+        durableLsn = lastLsn;
+    }
+
+    private void startSegment(long firstLsn) throws IOException {
+        segment = FileChannel.open(directory.resolve(fileName(SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX)),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> listFiles(String prefix, String suffix) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (Path path : stream) {
+                files.add(path);
+            }
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private static String fileName(String prefix, long lsn, String suffix) {
+        return String.format("%s%020d%s", prefix, lsn, suffix);
+    }
+
+    private static long lsnOf(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.out.println("Journal flush failed: " + e.getMessage());
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException e) {
+            System.out.println("Journal snapshot failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.overstay;
+
+import org.example.Level;
+import org.example.ParkingEventListener;
+import org.example.ParkingLot;
+import org.example.plate.ParkedVehicle;
+import org.example.vehicle.Vehicle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Parked vehicles ordered by entry time. A spot holds one vehicle at a time, so (entry time, floor,
+// spot) identifies a stay and the unpark event carries everything needed to delete it eagerly.
+// "Parked longer than X" is a head-map walk: O(log n + k).
+public class OverstayIndex implements ParkingEventListener {
+    private final ConcurrentSkipListMap<StayKey, ParkedVehicle> byEntryTime = new ConcurrentSkipListMap<>();
+
+    // Registers the index on the lot and seeds it with the vehicles already parked.
+    public static OverstayIndex attachTo(ParkingLot parkingLot) {
+        OverstayIndex overstayIndex = new OverstayIndex();
+        parkingLot.addParkingEventListener(overstayIndex);
+        for (Level level : parkingLot.getLevels()) {
+            level.visitOccupiedSpots((spotIndex, vehicle, entryTime) ->
+                overstayIndex.add(new ParkedVehicle(vehicle, level.getFloor(), spotIndex, entryTime)));
+        }
+        return overstayIndex;
+    }
+
+    @Override
+    public void onVehicleParked(Level level, int spotIndex, Vehicle vehicle, long entryTime) {
+        add(new ParkedVehicle(vehicle, level.getFloor(), spotIndex, entryTime));
+    }
+
+    @Override
+    public void onVehicleRemoved(Level level, int spotIndex, Vehicle vehicle, long entryTime, long exitTime) {
+        byEntryTime.remove(new StayKey(entryTime, level.getFloor(), spotIndex));
+    }
+
+    // Oldest first.
+    public List<ParkedVehicle> findParkedLongerThan(long durationMillis, long nowMillis) {
+        return collect(byEntryTime.headMap(StayKey.last(nowMillis - durationMillis), false));
+    }
+
+    public ParkedVehicle oldest() {
+        Map.Entry<StayKey, ParkedVehicle> entry = byEntryTime.firstEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    public int size() {
+        return byEntryTime.size();
+    }
+
+    // Stays that entered after fromEntryTime (exclusive) and no later than toEntryTime (inclusive).
+    List<ParkedVehicle> findEnteredBetween(long fromEntryTime, long toEntryTime) {
+        return collect(byEntryTime.subMap(StayKey.last(fromEntryTime), false, StayKey.last(toEntryTime), true));
+    }
+
+    private void add(ParkedVehicle parkedVehicle) {
+        byEntryTime.put(new StayKey(parkedVehicle.entryTime(), parkedVehicle.floor(), parkedVehicle.spotIndex()),
+            parkedVehicle);
+    }
+
+    private static List<ParkedVehicle> collect(NavigableMap<StayKey, ParkedVehicle> range) {
+        return new ArrayList<>(range.values());
+    }
+
+    private record StayKey(long entryTime, int floor, int spotIndex) implements Comparable<StayKey> {
+        // Sorts after every real stay with the same entry time.
+        static StayKey last(long entryTime) {
+            return new StayKey(entryTime, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(StayKey other) {
+            int byTime = Long.compare(entryTime, other.entryTime);
+            if (byTime != 0) {
+                return byTime;
+            }
+            int byFloor = Integer.compare(floor, other.floor);
+            return byFloor != 0 ? byFloor : Integer.compare(spotIndex, other.spotIndex);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.overstay;
+
+import org.example.plate.ParkedVehicle;
+
+@FunctionalInterface
+public interface OverstayListener {
+    void onOverstay(ParkedVehicle parkedVehicle, long parkedMillis);
+}
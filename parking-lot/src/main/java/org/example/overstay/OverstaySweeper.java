@@ -0,0 +1,61 @@
+package org.example.overstay;
+
+import org.example.plate.ParkedVehicle;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Reports each stay once, when it first exceeds the threshold. Every sweep only walks the stays
+// whose entry time fell between the previous cutoff and the current one, so a sweep costs
+// O(log n + newly overstayed) no matter how many vehicles are already known to overstay.
+public class OverstaySweeper implements AutoCloseable {
+    private final OverstayIndex overstayIndex;
+    private final long thresholdMillis;
+    private final OverstayListener listener;
+    private final ScheduledExecutorService scheduler;
+    private long lastCutoff = Long.MIN_VALUE;
+
+    public OverstaySweeper(OverstayIndex overstayIndex, long thresholdMillis, OverstayListener listener) {
+        if (thresholdMillis <= 0) {
+            throw new IllegalArgumentException("Overstay threshold must be positive");
+        }
+        this.overstayIndex = overstayIndex;
+        this.thresholdMillis = thresholdMillis;
+        this.listener = listener;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "overstay-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start(long sweepIntervalMillis) {
+        scheduler.scheduleWithFixedDelay(() -> sweep(System.currentTimeMillis()), sweepIntervalMillis,
+            sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Returns the number of new overstays reported.
+    public synchronized int sweep(long nowMillis) {
+        long cutoff = nowMillis - thresholdMillis;
+        if (cutoff <= lastCutoff) {
+            return 0;
+        }
+        int reported = 0;
+        for (ParkedVehicle parkedVehicle : overstayIndex.findEnteredBetween(lastCutoff, cutoff)) {
+            try {
+                listener.onOverstay(parkedVehicle, nowMillis - parkedVehicle.entryTime());
+            } catch (RuntimeException e) {
+                System.out.println("Overstay listener failed: " + e);
+            }
+            reported++;
+        }
+        lastCutoff = cutoff;
+        return reported;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
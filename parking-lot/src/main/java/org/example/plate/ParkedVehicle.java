@@ -0,0 +1,6 @@
+package org.example.plate;
+
+import org.example.vehicle.Vehicle;
+
+public record ParkedVehicle(Vehicle vehicle, int floor, int spotIndex, long entryTime) {
+}
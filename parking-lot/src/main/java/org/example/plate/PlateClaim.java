@@ -0,0 +1,35 @@
+package org.example.plate;
+
+// One caller's hold on a license plate while it parks that vehicle, released by close. The index
+// hands the park event for the claimed plate to the claim, so the caller gets its own spot back
+// without looking the plate up again.
+public final class PlateClaim implements AutoCloseable {
+    private final PlateIndex plateIndex;
+    private final String licensePlate;
+    private volatile ParkedVehicle parkedVehicle;
+
+    PlateClaim(PlateIndex plateIndex, String licensePlate) {
+        this.plateIndex = plateIndex;
+        this.licensePlate = licensePlate;
+    }
+
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
+    // The vehicle parked under this claim, or null if none has been parked yet.
+    public ParkedVehicle getParkedVehicle() {
+        return parkedVehicle;
+    }
+
+    void recordPark(ParkedVehicle parkedVehicle) {
+        if (this.parkedVehicle == null) {
+            this.parkedVehicle = parkedVehicle;
+        }
+    }
+
+    @Override
+    public void close() {
+        plateIndex.release(this);
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.plate;
+
+import org.example.Level;
+import org.example.ParkingEventListener;
+import org.example.ParkingLot;
+import org.example.vehicle.Vehicle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Finds parked vehicles by license plate: exactly, by prefix, or within one edit (a misread,
+// missing or extra character). Kept up to date from park and unpark events; lookups never touch a
+// level lock.
+//
+// Fuzzy matching uses a bigram index over plates padded with start and end markers. One edit
+// changes at most two bigrams of the query, so every match shares at least (distinct query
+// bigrams - 2) of them, and at least one once either plate has two characters. Candidates come
+// from the rarest posting lists and are verified exactly.
+public class PlateIndex implements ParkingEventListener {
+    private static final char START = '\u0002';
+    private static final char END = '\u0003';
+
+    private final Map<String, ParkedVehicle> byPlate = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> sortedPlates = new ConcurrentSkipListSet<>();
+    private final Map<Integer, Set<String>> platesByBigram = new ConcurrentHashMap<>();
+    private final Map<String, PlateClaim> claims = new ConcurrentHashMap<>();
+
+    // Registers a new index on the lot and seeds it with the vehicles already parked. The listener
+    // is registered first and each level is visited under its monitor, so no event is missed.
+    public static PlateIndex attachTo(ParkingLot parkingLot) {
+        PlateIndex plateIndex = new PlateIndex();
+        parkingLot.addParkingEventListener(plateIndex);
+        for (Level level : parkingLot.getLevels()) {
+            level.visitOccupiedSpots((spotIndex, vehicle, entryTime) ->
+                plateIndex.add(new ParkedVehicle(vehicle, level.getFloor(), spotIndex, entryTime)));
+        }
+        return plateIndex;
+    }
+
+    @Override
+    public void onVehicleParked(Level level, int spotIndex, Vehicle vehicle, long entryTime) {
+        ParkedVehicle parkedVehicle = new ParkedVehicle(vehicle, level.getFloor(), spotIndex, entryTime);
+        add(parkedVehicle);
+        PlateClaim claim = claims.get(vehicle.getLicensePlate());
+        if (claim != null) {
+            claim.recordPark(parkedVehicle);
+        }
+    }
+
+    @Override
+    public void onVehicleRemoved(Level level, int spotIndex, Vehicle vehicle, long entryTime, long exitTime) {
+        String licensePlate = vehicle.getLicensePlate();
+        ParkedVehicle parkedVehicle = byPlate.get(licensePlate);
+        if (parkedVehicle != null && parkedVehicle.vehicle() == vehicle
+            && byPlate.remove(licensePlate, parkedVehicle)) {
+            sortedPlates.remove(licensePlate);
+            for (int bigram : bigramsOf(licensePlate)) {
+                Set<String> plates = platesByBigram.get(bigram);
+                if (plates != null) {
+                    plates.remove(licensePlate);
+                }
+            }
+        }
+    }
+
+    // Holds the plate for the caller until the claim is closed, so two gates cannot both park it.
+    // Returns null if the plate is already parked or claimed. The claim is taken before the parked
+    // check, so a vehicle parked under an earlier claim is always seen once that claim is closed.
+    public PlateClaim claim(String licensePlate) {
+        PlateClaim claim = new PlateClaim(this, licensePlate);
+        if (claims.putIfAbsent(licensePlate, claim) != null) {
+            return null;
+        }
+        if (byPlate.containsKey(licensePlate)) {
+            claims.remove(licensePlate, claim);
+            return null;
+        }
+        return claim;
+    }
+
+    public ParkedVehicle find(String licensePlate) {
+        return byPlate.get(licensePlate);
+    }
+
+    // In plate order, at most limit results.
+    public List<ParkedVehicle> findByPrefix(String prefix, int limit) {
+        List<ParkedVehicle> matches = new ArrayList<>();
+        for (String licensePlate : sortedPlates.subSet(prefix, true, prefix + Character.MAX_VALUE, false)) {
+            if (matches.size() == limit) {
+                break;
+            }
+            ParkedVehicle parkedVehicle = byPlate.get(licensePlate);
+            if (parkedVehicle != null) {
+                matches.add(parkedVehicle);
+            }
+        }
+        return matches;
+    }
+
+    // Plates within edit distance 1 of the given one, including an exact match.
+    public List<ParkedVehicle> findSimilar(String licensePlate) {
+        int[] bigrams = bigramsOf(licensePlate);
+        List<Set<String>> postings = postingsBySize(bigrams);
+        // A match misses at most (bigrams - required) of the query's bigrams, so it must appear in
+        // at least one of any (bigrams - required + 1) posting lists: probe the shortest ones.
+        int required = Math.max(1, bigrams.length - 2);
+        int probes = bigrams.length - required + 1;
+        Set<String> candidates = new HashSet<>();
+        for (int i = 0; i < probes; i++) {
+            candidates.addAll(postings.get(i));
+        }
+        List<ParkedVehicle> matches = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (withinOneEdit(licensePlate, candidate)) {
+                ParkedVehicle parkedVehicle = byPlate.get(candidate);
+                if (parkedVehicle != null) {
+                    matches.add(parkedVehicle);
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return byPlate.size();
+    }
+
+    void release(PlateClaim claim) {
+        claims.remove(claim.getLicensePlate(), claim);
+    }
+
+    private void add(ParkedVehicle parkedVehicle) {
+        String licensePlate = parkedVehicle.vehicle().getLicensePlate();
+        byPlate.put(licensePlate, parkedVehicle);
+        sortedPlates.add(licensePlate);
+        for (int bigram : bigramsOf(licensePlate)) {
+            platesByBigram.computeIfAbsent(bigram, key -> ConcurrentHashMap.newKeySet()).add(licensePlate);
+        }
+    }
+
+    private List<Set<String>> postingsBySize(int[] bigrams) {
+        List<Set<String>> postings = new ArrayList<>(bigrams.length);
+        for (int bigram : bigrams) {
+            postings.add(platesByBigram.getOrDefault(bigram, Set.of()));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        return postings;
+    }
+
+    // Distinct bigrams of START + plate + END, each packed as two chars in an int.
+    private static int[] bigramsOf(String licensePlate) {
+        int[] bigrams = new int[licensePlate.length() + 1];
+        int count = 0;
+        char previous = START;
+        for (int i = 0; i <= licensePlate.length(); i++) {
+            char current = i < licensePlate.length() ? licensePlate.charAt(i) : END;
+            int bigram = previous << 16 | current;
+            boolean seen = false;
+            for (int j = 0; j < count && !seen; j++) {
+                seen = bigrams[j] == bigram;
+            }
+            if (!seen) {
+                bigrams[count++] = bigram;
+            }
+            previous = current;
+        }
+        return count == bigrams.length ? bigrams : Arrays.copyOf(bigrams, count);
+    }
+
+    static boolean withinOneEdit(String first, String second) {
+        if (first.length() < second.length()) {
+            return withinOneEdit(second, first);
+        }
+        int longer = first.length();
+        int shorter = second.length();
+        if (longer - shorter > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < shorter && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        if (i == shorter) {
+            return true;
+        }
+        if (longer == shorter) {
+            return first.regionMatches(i + 1, second, i + 1, longer - i - 1);
+        }
+        return first.regionMatches(i + 1, second, i, shorter - i);
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.reservation;
+
+// Hashed timing wheel: timers are hashed by deadline tick into a power-of-two ring of buckets,
+// each an intrusive doubly linked list, so scheduling and cancelling are O(1). Time only moves
+// when advanceTo is called; expired tasks run on the caller's thread after the wheel lock is released.
+public class HashedTimingWheel {
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final Timeout[] buckets;
+    private long currentTick;
+    private int pendingTimeouts;
+
+    public HashedTimingWheel(long tickMillis, int ticksPerWheel, long startMillis) {
+        if (tickMillis <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = Math.max(wheelSize, 1) - 1;
+        this.buckets = new Timeout[mask + 1];
+    }
+
+    public synchronized Timeout schedule(Runnable task, long deadlineMillis) {
+        long deadlineTick = Math.max(ceilTick(deadlineMillis), currentTick + 1);
+        Timeout timeout = new Timeout(this, task, deadlineTick);
+        link(timeout);
+        return timeout;
+    }
+
+    public void advanceTo(long nowMillis) {
+        Timeout expired = null;
+        synchronized (this) {
+            long targetTick = (nowMillis - startMillis) / tickMillis;
+            long ticks = Math.min(targetTick - currentTick, buckets.length);
+            for (long i = 1; i <= ticks; i++) {
+                int bucket = (int) ((currentTick + i) & mask);
+                Timeout timeout = buckets[bucket];
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    if (timeout.deadlineTick <= targetTick) {
+                        unlink(timeout);
+                        timeout.state = Timeout.EXPIRED;
+                        timeout.next = expired;
+                        expired = timeout;
+                    }
+                    timeout = next;
+                }
+            }
+            currentTick = Math.max(currentTick, targetTick);
+        }
+        while (expired != null) {
+            Timeout next = expired.next;
+            expired.next = null;
+            try {
+                expired.task.run();
+            } catch (RuntimeException e) {
+                System.out.println("Timer task failed: " + e.getMessage());
+            }
+            expired = next;
+        }
+    }
+
+    public synchronized int getPendingTimeouts() {
+        return pendingTimeouts;
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return false;
+        }
+        unlink(timeout);
+        timeout.state = Timeout.CANCELLED;
+        return true;
+    }
+
+    private long ceilTick(long deadlineMillis) {
+        return Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+    }
+
+    private void link(Timeout timeout) {
+        int bucket = (int) (timeout.deadlineTick & mask);
+        timeout.next = buckets[bucket];
+        if (timeout.next != null) {
+            timeout.next.previous = timeout;
+        }
+        buckets[bucket] = timeout;
+        pendingTimeouts++;
+    }
+
+    private void unlink(Timeout timeout) {
+        int bucket = (int) (timeout.deadlineTick & mask);
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            buckets[bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        pendingTimeouts--;
+    }
+
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final HashedTimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineTick;
+        private Timeout previous;
+        private Timeout next;
+        private int state = PENDING;
+
+        private Timeout(HashedTimingWheel wheel, Runnable task, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        public boolean isExpired() {
+            synchronized (wheel) {
+                return state == EXPIRED;
+            }
+        }
+
+        public boolean isCancelled() {
+            synchronized (wheel) {
+                return state == CANCELLED;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.reservation;
+
+import org.example.Level;
+import org.example.vehicle.VehicleType;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class Reservation {
+    private final long id;
+    private final VehicleType vehicleType;
+    private final Level level;
+    private final int spotIndex;
+    private final long expiresAtMillis;
+    private final AtomicReference<ReservationStatus> status = new AtomicReference<>(ReservationStatus.ACTIVE);
+    private HashedTimingWheel.Timeout timeout;
+
+    Reservation(long id, VehicleType vehicleType, Level level, int spotIndex, long expiresAtMillis) {
+        this.id = id;
+        this.vehicleType = vehicleType;
+        this.level = level;
+        this.spotIndex = spotIndex;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    // Claim, cancel and expiry race for the ACTIVE state; exactly one of them wins.
+    boolean transition(ReservationStatus next) {
+        return status.compareAndSet(ReservationStatus.ACTIVE, next);
+    }
+
+    void setTimeout(HashedTimingWheel.Timeout timeout) {
+        this.timeout = timeout;
+    }
+
+    HashedTimingWheel.Timeout getTimeout() {
+        return timeout;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public VehicleType getVehicleType() {
+        return vehicleType;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public int getSpotIndex() {
+        return spotIndex;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public ReservationStatus getStatus() {
+        return status.get();
+    }
+
+    @Override
+    public String toString() {
+        return "Reservation " + id + " for " + vehicleType + " at floor " + level.getFloor() + ", spot " + spotIndex
+            + " (" + status.get() + ")";
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.reservation;
+
+import org.example.Gate;
+import org.example.Level;
+import org.example.ParkingLot;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleType;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReservationManager implements Closeable {
+    private static final int TICKS_PER_WHEEL = 4096;
+
+    private final ParkingLot parkingLot;
+    private final HashedTimingWheel timingWheel;
+    private final ScheduledExecutorService ticker;
+    private final Map<Long, Reservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicLong nextReservationId = new AtomicLong();
+
+    public ReservationManager(ParkingLot parkingLot, long tickMillis) {
+        this.parkingLot = parkingLot;
+        this.timingWheel = new HashedTimingWheel(tickMillis, TICKS_PER_WHEEL, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reservation-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> timingWheel.advanceTo(System.currentTimeMillis()), tickMillis, tickMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    public Reservation reserve(VehicleType vehicleType, Gate gate, long holdMillis) {
+        for (Level level : parkingLot.getOpenLevels()) {
+            int spotIndex = level.reserveSpot(vehicleType, gate);
+            if (spotIndex >= 0) {
+                long expiresAt = System.currentTimeMillis() + holdMillis;
+                Reservation reservation = new Reservation(nextReservationId.incrementAndGet(), vehicleType, level,
+                    spotIndex, expiresAt);
+                reservation.setTimeout(timingWheel.schedule(() -> expire(reservation), expiresAt));
+                reservations.put(reservation.getId(), reservation);
+                return reservation;
+            }
+        }
+        System.out.println("No spot available to reserve for vehicle " + vehicleType);
+        return null;
+    }
+
+    public boolean claim(long reservationId, Vehicle vehicle) {
+        Reservation reservation = reservations.get(reservationId);
+        if (reservation == null) {
+            return false;
+        }
+        Level level = reservation.getLevel();
+        VehicleType spotType = level.getSpotType(reservation.getSpotIndex());
+        if (!level.getCompatibilityPolicy().allows(vehicle.getType(), spotType)
+            || !reservation.transition(ReservationStatus.CLAIMED)) {
+            return false;
+        }
+        reservation.getTimeout().cancel();
+        reservations.remove(reservationId);
+        return level.parkReservedVehicle(reservation.getSpotIndex(), vehicle);
+    }
+
+    public boolean cancel(long reservationId) {
+        Reservation reservation = reservations.get(reservationId);
+        if (reservation == null || !reservation.transition(ReservationStatus.CANCELLED)) {
+            return false;
+        }
+        reservation.getTimeout().cancel();
+        reservations.remove(reservationId);
+        return reservation.getLevel().cancelReservation(reservation.getSpotIndex());
+    }
+
+    public Reservation getReservation(long reservationId) {
+        return reservations.get(reservationId);
+    }
+
+    public int getActiveReservations() {
+        return reservations.size();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void expire(Reservation reservation) {
+        if (reservation.transition(ReservationStatus.EXPIRED)) {
+            reservations.remove(reservation.getId());
+            reservation.getLevel().cancelReservation(reservation.getSpotIndex());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.reservation;
+
+public enum ReservationStatus {
+    ACTIVE,
+    CLAIMED,
+    EXPIRED,
+    CANCELLED
+}
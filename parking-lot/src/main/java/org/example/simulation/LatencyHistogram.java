@@ -0,0 +1,66 @@
+package org.example.simulation;
+
+// Log-linear histogram of nanosecond latencies: values below 128 are exact, larger values fall into
+// one of 64 buckets per power of two (under 1.6% error). Not thread-safe; each gate owns one and
+// they are merged after the run.
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int HALF_SUB_BUCKETS = 1 << (SUB_BUCKET_BITS - 1);
+
+    private final long[] counts = new long[(64 - SUB_BUCKET_BITS + 2) * HALF_SUB_BUCKETS];
+    private long count;
+    private long max;
+
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[indexOf(value)]++;
+        count++;
+        max = Math.max(max, value);
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    long getMax() {
+        return max;
+    }
+
+    // Highest value of the bucket holding the percentile (0-100).
+    long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < 2 * HALF_SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        long subBucket = index - (long) shift * HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
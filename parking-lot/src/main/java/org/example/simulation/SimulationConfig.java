@@ -0,0 +1,30 @@
+package org.example.simulation;
+
+import org.example.vehicle.VehicleType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Open-loop traffic: arrivals form a Poisson process split evenly over the entry gates, vehicle
+// types are drawn from vehicleMix (relative weights) and stays are exponentially distributed.
+public record SimulationConfig(int exitGates, double arrivalsPerSecond, long meanStayMillis, long durationMillis,
+                               Map<VehicleType, Double> vehicleMix, long seed) {
+    public SimulationConfig {
+        if (exitGates <= 0 || arrivalsPerSecond <= 0 || meanStayMillis <= 0 || durationMillis <= 0) {
+            throw new IllegalArgumentException("Gates, arrival rate, stay and duration must be positive");
+        }
+        if (vehicleMix.isEmpty() || vehicleMix.values().stream().anyMatch(weight -> weight < 0)) {
+            throw new IllegalArgumentException("Vehicle mix must have non-negative weights");
+        }
+        vehicleMix = Map.copyOf(vehicleMix);
+    }
+
+    // Mostly cars, some motorcycles, a few trucks.
+    public static Map<VehicleType, Double> rushHourMix() {
+        Map<VehicleType, Double> mix = new EnumMap<>(VehicleType.class);
+        mix.put(VehicleType.CAR, 0.7);
+        mix.put(VehicleType.MOTORCYCLE, 0.2);
+        mix.put(VehicleType.TRUCK, 0.1);
+        return mix;
+    }
+}
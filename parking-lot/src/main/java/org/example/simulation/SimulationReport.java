@@ -0,0 +1,71 @@
+package org.example.simulation;
+
+public class SimulationReport {
+    private final long elapsedNanos;
+    private final long arrivals;
+    private final long rejections;
+    private final long departures;
+    private final LatencyHistogram parkLatency;
+    private final LatencyHistogram parkServiceTime;
+
+    SimulationReport(long elapsedNanos, long arrivals, long rejections, long departures,
+                     LatencyHistogram parkLatency, LatencyHistogram parkServiceTime) {
+        this.elapsedNanos = elapsedNanos;
+        this.arrivals = arrivals;
+        this.rejections = rejections;
+        this.departures = departures;
+        this.parkLatency = parkLatency;
+        this.parkServiceTime = parkServiceTime;
+    }
+
+    public long getArrivals() {
+        return arrivals;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public long getDepartures() {
+        return departures;
+    }
+
+    // Park attempts handled per second of simulated traffic.
+    public double getThroughputPerSecond() {
+        return arrivals * 1e9 / elapsedNanos;
+    }
+
+    public double getRejectionRate() {
+        return arrivals == 0 ? 0 : (double) rejections / arrivals;
+    }
+
+    // From the arrival's scheduled time to the end of its park, including any wait behind earlier
+    // arrivals at the same gate.
+    public long getParkLatencyNanos(double percentile) {
+        return parkLatency.percentile(percentile);
+    }
+
+    public long getMaxParkLatencyNanos() {
+        return parkLatency.getMax();
+    }
+
+    // The park call alone, from when the gate got to the arrival.
+    public long getParkServiceTimeNanos(double percentile) {
+        return parkServiceTime.percentile(percentile);
+    }
+
+    public long getMaxParkServiceTimeNanos() {
+        return parkServiceTime.getMax();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("arrivals=%,d, departures=%,d, throughput=%,.0f parks/s, rejected=%.2f%%%n"
+                + "park latency (from scheduled arrival) p50=%,d ns, p99=%,d ns, p999=%,d ns, max=%,d ns%n"
+                + "park service time p50=%,d ns, p99=%,d ns, p999=%,d ns, max=%,d ns%n",
+            arrivals, departures, getThroughputPerSecond(), getRejectionRate() * 100,
+            getParkLatencyNanos(50), getParkLatencyNanos(99), getParkLatencyNanos(99.9), getMaxParkLatencyNanos(),
+            getParkServiceTimeNanos(50), getParkServiceTimeNanos(99), getParkServiceTimeNanos(99.9),
+            getMaxParkServiceTimeNanos());
+    }
+}
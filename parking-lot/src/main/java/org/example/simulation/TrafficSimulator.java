@@ -0,0 +1,184 @@
+package org.example.simulation;
+
+import org.example.Gate;
+import org.example.ParkingLot;
+import org.example.vehicle.Vehicle;
+import org.example.vehicle.VehicleFactory;
+import org.example.vehicle.VehicleType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Drives a parking lot with one virtual thread per entry and exit gate. Entry gates follow their
+// own arrival schedule regardless of how long parking takes (open loop); parked vehicles wait in a
+// delay queue until their stay is over and the next free exit gate removes them. Vehicles still
+// parked when the run ends are removed before returning, so the lot is left empty.
+//
+// Park latency is measured from each arrival's scheduled time, so a gate that falls behind its
+// schedule counts the wait too (no coordinated omission); service time covers only the park call.
+public class TrafficSimulator {
+    private final ParkingLot parkingLot;
+    private final List<Gate> entryGates;
+    private final SimulationConfig config;
+    private final VehicleType[] vehicleTypes;
+    private final double[] cumulativeWeights;
+
+    public TrafficSimulator(ParkingLot parkingLot, List<Gate> entryGates, SimulationConfig config) {
+        if (entryGates.isEmpty()) {
+            throw new IllegalArgumentException("At least one entry gate is required");
+        }
+        this.parkingLot = parkingLot;
+        this.entryGates = List.copyOf(entryGates);
+        this.config = config;
+        this.vehicleTypes = new VehicleType[config.vehicleMix().size()];
+        this.cumulativeWeights = new double[vehicleTypes.length];
+        double total = 0;
+        int i = 0;
+        for (Map.Entry<VehicleType, Double> entry : config.vehicleMix().entrySet()) {
+            total += entry.getValue();
+            vehicleTypes[i] = entry.getKey();
+            cumulativeWeights[i++] = total;
+        }
+    }
+
+    public SimulationReport run() throws InterruptedException {
+        DelayQueue<Departure> departures = new DelayQueue<>();
+        List<EntryGateRun> entryRuns = new ArrayList<>();
+        for (int i = 0; i < entryGates.size(); i++) {
+            entryRuns.add(new EntryGateRun(entryGates.get(i), config.seed() + i));
+        }
+        AtomicLong departed = new AtomicLong();
+        CountDownLatch entriesClosed = new CountDownLatch(entryRuns.size());
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(config.durationMillis());
+        try (ExecutorService gates = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (EntryGateRun entryRun : entryRuns) {
+                gates.submit(() -> {
+                    try {
+                        entryRun.run(start, end, departures);
+                    } finally {
+                        entriesClosed.countDown();
+                    }
+                });
+            }
+            for (int i = 0; i < config.exitGates(); i++) {
+                gates.submit(() -> runExitGate(departures, entriesClosed, departed));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        for (Departure departure : departures) {
+            parkingLot.tryRemoveVehicle(departure.vehicle);
+        }
+        departures.clear();
+
+        LatencyHistogram parkLatency = new LatencyHistogram();
+        LatencyHistogram parkServiceTime = new LatencyHistogram();
+        long arrivals = 0;
+        long rejections = 0;
+        for (EntryGateRun entryRun : entryRuns) {
+            parkLatency.add(entryRun.parkLatency);
+            parkServiceTime.add(entryRun.parkServiceTime);
+            arrivals += entryRun.arrivals;
+            rejections += entryRun.rejections;
+        }
+        return new SimulationReport(elapsed, arrivals, rejections, departed.get(), parkLatency, parkServiceTime);
+    }
+
+    private void runExitGate(DelayQueue<Departure> departures, CountDownLatch entriesClosed, AtomicLong departed) {
+        try {
+            while (entriesClosed.getCount() > 0) {
+                Departure departure = departures.poll(1, TimeUnit.MILLISECONDS);
+                if (departure != null && parkingLot.tryRemoveVehicle(departure.vehicle) != null) {
+                    departed.incrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private VehicleType nextVehicleType(SplittableRandom random) {
+        double draw = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length - 1; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return vehicleTypes[i];
+            }
+        }
+        return vehicleTypes[vehicleTypes.length - 1];
+    }
+
+    private static long exponentialNanos(SplittableRandom random, double meanNanos) {
+        return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+    }
+
+    private final class EntryGateRun {
+        private final Gate gate;
+        private final SplittableRandom random;
+        private final LatencyHistogram parkLatency = new LatencyHistogram();
+        private final LatencyHistogram parkServiceTime = new LatencyHistogram();
+        private long arrivals;
+        private long rejections;
+
+        EntryGateRun(Gate gate, long seed) {
+            this.gate = gate;
+            this.random = new SplittableRandom(seed);
+        }
+
+        void run(long start, long end, DelayQueue<Departure> departures) {
+            double meanGapNanos = 1e9 * entryGates.size() / config.arrivalsPerSecond();
+            double meanStayNanos = TimeUnit.MILLISECONDS.toNanos(config.meanStayMillis());
+            long nextArrival = start + exponentialNanos(random, meanGapNanos);
+            while (nextArrival < end) {
+                long wait = nextArrival - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Vehicle vehicle = VehicleFactory.createVehicle(nextVehicleType(random),
+                    "G" + gate.getId() + "-" + arrivals);
+                long parkStart = System.nanoTime();
+                boolean parked = parkingLot.tryParkVehicle(vehicle, gate) != null;
+                long parkEnd = System.nanoTime();
+                parkLatency.record(parkEnd - nextArrival);
+                parkServiceTime.record(parkEnd - parkStart);
+                arrivals++;
+                if (parked) {
+                    departures.add(new Departure(vehicle, parkEnd + exponentialNanos(random, meanStayNanos)));
+                } else {
+                    rejections++;
+                }
+                nextArrival += exponentialNanos(random, meanGapNanos);
+            }
+        }
+    }
+
+    private static final class Departure implements Delayed {
+        private final Vehicle vehicle;
+        private final long dueNanos;
+
+        Departure(Vehicle vehicle, long dueNanos) {
+            this.vehicle = vehicle;
+            this.dueNanos = dueNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueNanos, ((Departure) other).dueNanos);
+        }
+    }
+}
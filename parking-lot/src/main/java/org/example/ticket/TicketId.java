@@ -0,0 +1,134 @@
+package org.example.ticket;
+
+import java.util.Arrays;
+
+// Layout of a 64-bit ticket id: sign bit clear, 8 bits of floor, 21 bits of spot index and 34 bits
+// of issue sequence. The floor and spot say where the vehicle is without any lookup; the sequence
+// tells a ticket for the current occupant apart from an old ticket for the same spot.
+public final class TicketId {
+    public static final long NONE = -1;
+    public static final int MAX_FLOOR = (1 << 8) - 1;
+    public static final int MAX_SPOT_INDEX = (1 << 21) - 1;
+    public static final long MAX_SEQUENCE = (1L << 34) - 1;
+
+    private static final int SPOT_SHIFT = 34;
+    private static final int FLOOR_SHIFT = 55;
+
+    // Crockford base32 digits (no I, L, O or U) plus five check symbols, all in the QR alphanumeric
+    // set so the printed code stays in the denser alphanumeric mode. Crockford's own ~ and = are not
+    // in that set, and - and space are read as separators, so the check symbols are * $ % + and U.
+    private static final char[] SYMBOLS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ*$%+U".toCharArray();
+    private static final int TEXT_DIGITS = 13;
+    private static final int[] SYMBOL_VALUES = new int[128];
+    private static final int[] CHECK_VALUES = new int[128];
+
+    static {
+        Arrays.fill(SYMBOL_VALUES, -1);
+        for (int i = 0; i < 32; i++) {
+            SYMBOL_VALUES[SYMBOLS[i]] = i;
+            SYMBOL_VALUES[Character.toLowerCase(SYMBOLS[i])] = i;
+        }
+        for (char alias : "oO".toCharArray()) {
+            SYMBOL_VALUES[alias] = 0;
+        }
+        for (char alias : "iIlL".toCharArray()) {
+            SYMBOL_VALUES[alias] = 1;
+        }
+        System.arraycopy(SYMBOL_VALUES, 0, CHECK_VALUES, 0, CHECK_VALUES.length);
+        for (int i = 32; i < SYMBOLS.length; i++) {
+            CHECK_VALUES[SYMBOLS[i]] = i;
+            CHECK_VALUES[Character.toLowerCase(SYMBOLS[i])] = i;
+        }
+    }
+
+    private TicketId() {
+    }
+
+    public static long encode(int floor, int spotIndex, long sequence) {
+        if (floor < 0 || floor > MAX_FLOOR) {
+            throw new IllegalArgumentException("Floor " + floor + " does not fit in a ticket id");
+        }
+        if (spotIndex < 0 || spotIndex > MAX_SPOT_INDEX) {
+            throw new IllegalArgumentException("Spot " + spotIndex + " does not fit in a ticket id");
+        }
+        if (sequence <= 0 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Sequence " + sequence + " does not fit in a ticket id");
+        }
+        return (long) floor << FLOOR_SHIFT | (long) spotIndex << SPOT_SHIFT | sequence;
+    }
+
+    public static int floorOf(long ticketId) {
+        return (int) (ticketId >>> FLOOR_SHIFT);
+    }
+
+    public static int spotIndexOf(long ticketId) {
+        return (int) (ticketId >>> SPOT_SHIFT) & MAX_SPOT_INDEX;
+    }
+
+    public static long sequenceOf(long ticketId) {
+        return ticketId & MAX_SEQUENCE;
+    }
+
+    public static boolean isWellFormed(long ticketId) {
+        return ticketId > 0 && sequenceOf(ticketId) != 0;
+    }
+
+    // 13 base32 digits plus a mod-37 check symbol that catches a single mistyped or swapped digit.
+    public static String toText(long ticketId) {
+        if (!isWellFormed(ticketId)) {
+            throw new IllegalArgumentException("Not a ticket id: " + ticketId);
+        }
+        char[] text = new char[TEXT_DIGITS + 1];
+        long remaining = ticketId;
+        for (int i = TEXT_DIGITS - 1; i >= 0; i--) {
+            text[i] = SYMBOLS[(int) (remaining & 31)];
+            remaining >>>= 5;
+        }
+        text[TEXT_DIGITS] = SYMBOLS[(int) (ticketId % 37)];
+        return new String(text);
+    }
+
+    // Accepts lower case, O for 0, I and L for 1, and ignores hyphens and spaces added for reading.
+    public static long fromText(CharSequence text) {
+        long ticketId = 0;
+        int digits = 0;
+        int check = -1;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            if (digits == TEXT_DIGITS) {
+                if (check >= 0) {
+                    throw new IllegalArgumentException("Ticket code is too long: " + text);
+                }
+                check = checkValueOf(c);
+                continue;
+            }
+            int value = c < 128 ? SYMBOL_VALUES[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid ticket code character '" + c + "'");
+            }
+            if (digits == 0 && value >= 8) {
+                throw new IllegalArgumentException("Ticket code is out of range: " + text);
+            }
+            ticketId = ticketId << 5 | value;
+            digits++;
+        }
+        if (check < 0) {
+            throw new IllegalArgumentException("Ticket code is too short: " + text);
+        }
+        if (digits != TEXT_DIGITS || !isWellFormed(ticketId) || ticketId % 37 != check) {
+            throw new IllegalArgumentException("Ticket code failed its check: " + text);
+        }
+        return ticketId;
+    }
+
+    private static int checkValueOf(char c) {
+        int value = c < 128 ? CHECK_VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid ticket check character '" + c + "'");
+        }
+        return value;
+    }
+}
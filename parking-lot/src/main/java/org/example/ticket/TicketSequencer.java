@@ -0,0 +1,72 @@
+package org.example.ticket;
+
+import org.example.Gate;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Hands out ticket sequences without a shared counter on the hot path: each gate takes a block of
+// BLOCK_SIZE sequences from the lot-wide counter and issues from it with a CAS on its own cursor, so
+// two gates never touch the same cache line except when a block runs out. Sequences are unique
+// per lot until MAX_SEQUENCE is reached, after which issue fails.
+public class TicketSequencer {
+    public static final int BLOCK_SIZE = 1024;
+
+    private final AtomicLong nextBlockStart = new AtomicLong(1);
+    // Indexed by gate id + 1; slot 0 serves parks that do not come through a gate. Grown copy-on-write.
+    private volatile GateBlock[] blocks = new GateBlock[0];
+
+    public long next(Gate gate) {
+        int slot = gate == null ? 0 : gate.getId() + 1;
+        GateBlock[] current = blocks;
+        GateBlock block = slot < current.length ? current[slot] : null;
+        return (block != null ? block : blockFor(slot)).next();
+    }
+
+    private synchronized GateBlock blockFor(int slot) {
+        GateBlock[] current = blocks;
+        if (slot >= current.length) {
+            current = Arrays.copyOf(current, slot + 1);
+        } else if (current[slot] != null) {
+            return current[slot];
+        } else {
+            current = current.clone();
+        }
+        current[slot] = new GateBlock();
+        blocks = current;
+        return current[slot];
+    }
+
+    private long takeBlock() {
+        long start = nextBlockStart.getAndAdd(BLOCK_SIZE);
+        if (start + BLOCK_SIZE - 1 > TicketId.MAX_SEQUENCE) {
+            throw new IllegalStateException("Ticket sequences are exhausted");
+        }
+        return start;
+    }
+
+    // The cursor is the last sequence handed out. Blocks start at 1 + k * BLOCK_SIZE, so a cursor that
+    // is a multiple of BLOCK_SIZE (including the initial 0) means the block is used up. The cursor
+    // sits in the middle of a 16-long array so blocks of different gates never share a cache line.
+    private final class GateBlock {
+        private static final int CURSOR = 8;
+        private final AtomicLongArray padded = new AtomicLongArray(2 * CURSOR);
+
+        long next() {
+            while (true) {
+                long last = padded.get(CURSOR);
+                if (last % BLOCK_SIZE != 0) {
+                    if (padded.compareAndSet(CURSOR, last, last + 1)) {
+                        return last + 1;
+                    }
+                    continue;
+                }
+                long start = takeBlock();
+                // If another thread of the same gate refilled first, the rest of this block is dropped.
+                padded.compareAndSet(CURSOR, last, start);
+                return start;
+            }
+        }
+    }
+}
@@ -1,14 +1,28 @@
 package org.example.vehicle;
 
+import java.nio.charset.StandardCharsets;
+
 public class Vehicle {
+    // Plates are journaled with a one-byte length, so longer ones are refused here, before the
+    // vehicle can take a spot, rather than in a parking listener after it has.
+    public static final int MAX_LICENSE_PLATE_BYTES = 255;
+
     protected String licensePlate;
     protected VehicleType type;
 
     public Vehicle(String licensePlate, VehicleType type) {
+        if (licensePlate != null && licensePlate.length() > MAX_LICENSE_PLATE_BYTES / 3
+            && licensePlate.getBytes(StandardCharsets.UTF_8).length > MAX_LICENSE_PLATE_BYTES) {
+            throw new IllegalArgumentException("License plate longer than " + MAX_LICENSE_PLATE_BYTES + " bytes");
+        }
         this.licensePlate = licensePlate;
         this.type = type;
     }
 
+    public String getLicensePlate() {
+        return licensePlate;
+    }
+
     public VehicleType getType() {
         return type;
     }
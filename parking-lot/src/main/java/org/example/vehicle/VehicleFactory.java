@@ -0,0 +1,11 @@
+package org.example.vehicle;
+
+public class VehicleFactory {
+    public static Vehicle createVehicle(VehicleType type, String licensePlate) {
+        return switch (type) {
+            case CAR -> new Car(licensePlate);
+            case MOTORCYCLE -> new Motorcycle(licensePlate);
+            case TRUCK -> new Truck(licensePlate);
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package implement.lld;
 
+import implement.lld.money.Amount;
+import implement.lld.money.CashBox;
 import implement.lld.money.Denomination;
 import implement.lld.product.Inventory;
 import implement.lld.product.InventoryManager;
@@ -10,12 +12,20 @@ import implement.lld.state.IdleVendingMoneyState;
 import implement.lld.state.ReadyVendingMoneyState;
 import implement.lld.state.ReturnMoneyVendingMoneyState;
 
+import java.util.Arrays;
+
 public class VendingMachine {
+    public static final long SELECTION_TIMEOUT_MILLIS = 60_000;
     private static VendingMachine instance;
     private IVendingMoneyState vendingMoneyState;
     private Product selectedProduct;
-    private double currentPayment;
+    private long selectionDeadlineMillis;
+    private long currentPaymentInCents;
+    // Pieces inserted for the current selection, by Denomination ordinal, so a sale that does not
+    // happen hands back exactly the money that went in.
+    private final int[] insertedPieces = new int[Denomination.values().length];
     private final InventoryManager inventoryManager;
+    private final CashBox cashBox;
 
     private final IdleVendingMoneyState idleVendingMoneyState;
     private final ReadyVendingMoneyState readyVendingMoneyState;
@@ -23,8 +33,12 @@ public class VendingMachine {
     private final ReturnMoneyVendingMoneyState returnMoneyVendingMoneyState;
 
     private final DispenseVendingMoneyState dispenseVendingMoneyState;
-    public double getCurrentPayment() {
-        return currentPayment;
+    public Amount getCurrentPayment() {
+        return Amount.ofCents(currentPaymentInCents);
+    }
+
+    public long getCurrentPaymentInCents() {
+        return currentPaymentInCents;
     }
 
     public Product getSelectedProduct() {
@@ -43,8 +57,9 @@ public class VendingMachine {
         this.dispenseVendingMoneyState = new DispenseVendingMoneyState(this);
         this.vendingMoneyState = idleVendingMoneyState;
         this.inventoryManager = new InventoryManager(inventory);
+        this.cashBox = new CashBox();
         this.selectedProduct = null;
-        this.currentPayment = 0.0;
+        this.currentPaymentInCents = 0;
     }
 
     public static synchronized VendingMachine getInstance() {
@@ -70,24 +85,54 @@ public class VendingMachine {
         return dispenseVendingMoneyState;
     }
 
+    // The product must already be reserved. The reservation lapses after SELECTION_TIMEOUT_MILLIS
+    // without payment; this is only checked when the next money is inserted.
     public void setSelectedProduct(Product selectedProduct) {
         this.selectedProduct = selectedProduct;
+        this.selectionDeadlineMillis = System.currentTimeMillis() + SELECTION_TIMEOUT_MILLIS;
+    }
+
+    public boolean isSelectionExpired(long nowMillis) {
+        return selectedProduct != null && nowMillis > selectionDeadlineMillis;
+    }
+
+    // Hands the reserved unit back to the inventory and clears the selection.
+    public void releaseSelectedProduct() {
+        if (selectedProduct != null) {
+            inventoryManager.releaseReservation(selectedProduct);
+            selectedProduct = null;
+        }
     }
 
     public void setVendingMoneyState(IVendingMoneyState vendingMoneyState) {
         this.vendingMoneyState = vendingMoneyState;
     }
 
-    public void setCurrentPayment(double currentPayment) {
-        this.currentPayment = currentPayment;
+    public void setCurrentPaymentInCents(long currentPaymentInCents) {
+        this.currentPaymentInCents = currentPaymentInCents;
+    }
+
+    // The money is already in the cash box; this adds it to the current payment.
+    public void recordInsertedMoney(Denomination denomination, int quantity) {
+        insertedPieces[denomination.ordinal()] += quantity;
+        currentPaymentInCents += (long) denomination.getValueInCents() * quantity;
+    }
+
+    public int[] getInsertedPieces() {
+        return insertedPieces.clone();
     }
 
     public InventoryManager getInventoryManager() {
         return inventoryManager;
     }
 
+    public CashBox getCashBox() {
+        return cashBox;
+    }
+
     public void resetPayment() {
-        this.currentPayment = 0.0;
+        this.currentPaymentInCents = 0;
+        Arrays.fill(insertedPieces, 0);
     }
 
     public void resetSelectedProduct() {
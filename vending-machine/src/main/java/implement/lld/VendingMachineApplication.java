@@ -1,5 +1,6 @@
 package implement.lld;
 
+import implement.lld.money.Amount;
 import implement.lld.money.Denomination;
 import implement.lld.product.Product;
 
@@ -8,21 +9,27 @@ public class VendingMachineApplication {
         try {
             VendingMachine vendingMachine = VendingMachine.getInstance();
             // stock up inventory
-            Product coke = new Product("Coke", 1.25);
-            Product pepsi = new Product("Pepsi", 1.25);
-            Product lays = new Product("Lays", 1);
-            Product doritos = new Product("Doritos", 1);
-            Product snickers = new Product("Snickers", 2);
-            Product dairyMilk = new Product("DairyMilk", 100);
-            vendingMachine.getInventoryManager().addProduct(coke, 10);
-            vendingMachine.getInventoryManager().addProduct(pepsi, 10);
-            vendingMachine.getInventoryManager().addProduct(lays, 10);
-            vendingMachine.getInventoryManager().addProduct(doritos, 10);
-            vendingMachine.getInventoryManager().addProduct(snickers, 10);
-            vendingMachine.getInventoryManager().addProduct(dairyMilk, 5);
+            Product coke = new Product("Coke", Amount.parse("1.25"));
+            Product pepsi = new Product("Pepsi", Amount.parse("1.25"));
+            Product lays = new Product("Lays", Amount.parse("1.00"));
+            Product doritos = new Product("Doritos", Amount.parse("1.00"));
+            Product snickers = new Product("Snickers", Amount.parse("2.00"));
+            Product dairyMilk = new Product("DairyMilk", Amount.parse("100.00"));
+            vendingMachine.getInventoryManager().addProduct(coke, 10, "A1");
+            vendingMachine.getInventoryManager().addProduct(pepsi, 10, "A2");
+            vendingMachine.getInventoryManager().addProduct(lays, 10, "B1");
+            vendingMachine.getInventoryManager().addProduct(doritos, 10, "B2");
+            vendingMachine.getInventoryManager().addProduct(snickers, 10, "C1");
+            vendingMachine.getInventoryManager().addProduct(dairyMilk, 5, "C2");
+
+            // load the change float
+            vendingMachine.getCashBox().deposit(Denomination.FIVE, 4);
+            vendingMachine.getCashBox().deposit(Denomination.TWO, 10);
+            vendingMachine.getCashBox().deposit(Denomination.ONE, 10);
+            vendingMachine.getCashBox().deposit(Denomination.QUARTER, 20);
 
             // start vending machine
-            vendingMachine.selectProduct("Pepsi");
+            vendingMachine.selectProduct("A2");
             vendingMachine.insertMoney(2, Denomination.TEN);
             vendingMachine.dispenseProduct();
             vendingMachine.returnChange();
@@ -32,6 +39,7 @@ public class VendingMachineApplication {
             vendingMachine.getInventoryManager().removeProduct(pepsi);
 
             vendingMachine.getInventoryManager().showAllAvailableProducts();
+            System.out.println(vendingMachine.getCashBox().getPlanCacheMetrics());
 
             vendingMachine.selectProduct("Pepsi");
         } catch (Exception e) {
@@ -0,0 +1,104 @@
+package implement.lld.benchmark;
+
+import implement.lld.money.Denomination;
+import implement.lld.util.ChangeCalculatorUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Compares the primitive change table in ChangeCalculatorUtil with the previous implementation
+// (one boxed List<Integer> per amount, copied for every denomination and amount) for a few change
+// amounts, and times the bounded variant against a cash box holding BOUNDED_COUNT of every
+// denomination. Reports time and bytes allocated per call on the measuring thread after a warm-up.
+// Usage: ChangeCalculatorBenchmark [iterations]
+public class ChangeCalculatorBenchmark {
+    private static final int[] CHANGE_IN_CENTS = {75, 875, 1_000, 10_000};
+    private static final int WARMUP_ITERATIONS = 30;
+    private static final int BOUNDED_COUNT = 50;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int[] available = new int[Denomination.values().length];
+        Arrays.fill(available, BOUNDED_COUNT);
+        for (int changeInCents : CHANGE_IN_CENTS) {
+            if (piecesOf(ChangeCalculatorUtil.calculateChangeCounts(changeInCents))
+                    != piecesOf(listBasedChange(changeInCents))) {
+                throw new IllegalStateException("Implementations disagree for " + changeInCents + " cents");
+            }
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                ChangeCalculatorUtil.calculateChangeCounts(changeInCents);
+                ChangeCalculatorUtil.calculateChangeCounts(changeInCents, available);
+                listBasedChange(changeInCents);
+            }
+
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                ChangeCalculatorUtil.calculateChangeCounts(changeInCents);
+            }
+            long primitiveNanos = (System.nanoTime() - start) / iterations;
+            long primitiveBytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / iterations;
+
+            allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                ChangeCalculatorUtil.calculateChangeCounts(changeInCents, available);
+            }
+            long boundedNanos = (System.nanoTime() - start) / iterations;
+            long boundedBytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / iterations;
+
+            allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                listBasedChange(changeInCents);
+            }
+            long listNanos = (System.nanoTime() - start) / iterations;
+            long listBytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / iterations;
+
+            System.out.printf("%,7d cents: primitive %,10d ns %,10d B | bounded %,10d ns %,10d B"
+                    + " | list-based %,12d ns %,14d B%n", changeInCents, primitiveNanos, primitiveBytes,
+                boundedNanos, boundedBytes, listNanos, listBytes);
+        }
+    }
+
+    private static int piecesOf(int[] counts) {
+        int pieces = 0;
+        for (int count : counts) {
+            pieces += count;
+        }
+        return pieces;
+    }
+
+    // The previous ChangeCalculatorUtil algorithm, kept here as the baseline.
+    @SuppressWarnings("unchecked")
+    private static int[] listBasedChange(int changeInCents) {
+        int[] allValuesInCents = Denomination.getAllValuesInCents();
+        List<Integer>[] dp = (List<Integer>[]) new List<?>[changeInCents + 1];
+        dp[0] = new ArrayList<>(Collections.nCopies(allValuesInCents.length, 0));
+        for (int i = 0; i < allValuesInCents.length; i++) {
+            int denominationInCent = allValuesInCents[i];
+            for (int amount = denominationInCent; amount <= changeInCents; amount++) {
+                if (dp[amount - denominationInCent] != null) {
+                    List<Integer> newCombination = new ArrayList<>(dp[amount - denominationInCent]);
+                    newCombination.set(i, newCombination.get(i) + 1);
+                    if (dp[amount] == null || totalCoins(newCombination) < totalCoins(dp[amount])) {
+                        dp[amount] = newCombination;
+                    }
+                }
+            }
+        }
+        int[] counts = new int[allValuesInCents.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = dp[changeInCents].get(i);
+        }
+        return counts;
+    }
+
+    private static int totalCoins(List<Integer> combination) {
+        return combination.stream().mapToInt(Integer::intValue).sum();
+    }
+}
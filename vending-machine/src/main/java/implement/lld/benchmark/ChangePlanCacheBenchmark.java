@@ -0,0 +1,70 @@
+package implement.lld.benchmark;
+
+import implement.lld.money.CashBox;
+import implement.lld.money.Denomination;
+import implement.lld.util.ChangeCalculatorUtil;
+
+import java.util.Random;
+
+// Replays vends drawn from a small set of prices and payments through a CashBox: every vend
+// deposits the payment with a change check and then dispenses the change, as the vending states do.
+// Runs once with the box stocked beyond what any change could use (deposits and payouts leave the
+// plan keys alone) and once with a thin float (the keys move on most vends), and compares the time
+// per vend with running the bounded change table for both steps without a cache.
+// Usage: ChangePlanCacheBenchmark [vends]
+public class ChangePlanCacheBenchmark {
+    private static final int[] PRICES_IN_CENTS = {75, 100, 125, 150, 200, 235, 310};
+    private static final Denomination[] PAYMENTS = {Denomination.ONE, Denomination.TWO, Denomination.FIVE,
+        Denomination.TEN, Denomination.TWENTY};
+
+    public static void main(String[] args) {
+        int vends = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run(vends / 10, 1_000_000);
+        }
+        System.out.println("Well stocked: " + run(vends, 1_000_000));
+        System.out.println("Thin float:   " + run(vends, 20));
+    }
+
+    private static String run(int vends, int stockPerDenomination) {
+        CashBox cashBox = new CashBox();
+        int[] uncachedCounts = new int[Denomination.values().length];
+        for (Denomination denomination : Denomination.values()) {
+            cashBox.deposit(denomination, stockPerDenomination);
+            uncachedCounts[denomination.ordinal()] = stockPerDenomination;
+        }
+        Random random = new Random(7);
+        int[] changes = new int[vends];
+        Denomination[] payments = new Denomination[vends];
+        for (int i = 0; i < vends; i++) {
+            payments[i] = PAYMENTS[random.nextInt(PAYMENTS.length)];
+            changes[i] = payments[i].getValueInCents() - PRICES_IN_CENTS[random.nextInt(PRICES_IN_CENTS.length)];
+        }
+
+        int refused = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < vends; i++) {
+            if (changes[i] < 0 || !cashBox.depositIfChangeAvailable(payments[i], 1, changes[i])) {
+                refused++;
+                continue;
+            }
+            if (changes[i] > 0) {
+                cashBox.dispenseChange(changes[i]);
+            }
+        }
+        double cachedNanos = (System.nanoTime() - start) / (double) vends;
+
+        long sink = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < vends; i++) {
+            if (changes[i] > 0) {
+                sink += ChangeCalculatorUtil.calculateChangeCounts(changes[i], uncachedCounts) == null ? 0 : 1;
+                sink += ChangeCalculatorUtil.calculateChangeCounts(changes[i], uncachedCounts) == null ? 0 : 1;
+            }
+        }
+        double uncachedNanos = (System.nanoTime() - start) / (double) vends;
+        return String.format("%,.0f ns/vend cached vs %,.0f ns/vend uncached, %d underpaid or refused (%d)%n  %s",
+            cachedNanos, uncachedNanos, refused, sink % 2,
+            cashBox.getPlanCacheMetrics());
+    }
+}
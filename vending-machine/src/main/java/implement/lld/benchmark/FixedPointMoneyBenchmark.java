@@ -0,0 +1,84 @@
+package implement.lld.benchmark;
+
+import implement.lld.money.Amount;
+import implement.lld.money.Denomination;
+
+import java.util.Random;
+
+// Runs the insert-and-change arithmetic of a vend with long cents and Denomination.fromCents
+// against the previous double model (double values, Denomination lookup by scanning values() with
+// ==, change recovered with Math.round(change * 100)), and shows the drift of summing dimes in
+// double.
+// Usage: FixedPointMoneyBenchmark [vends]
+public class FixedPointMoneyBenchmark {
+    private static final Denomination[] DENOMINATIONS = Denomination.values();
+    private static final int[] PRICES_IN_CENTS = {75, 100, 125, 150, 200, 235, 310};
+    private static final int INSERTS_PER_VEND = 4;
+
+    public static void main(String[] args) {
+        int vends = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        double[] doubleValues = new double[DENOMINATIONS.length];
+        for (Denomination denomination : DENOMINATIONS) {
+            doubleValues[denomination.ordinal()] = denomination.getValueInCents() / 100.0;
+        }
+        Random random = new Random(3);
+        int[] inserted = new int[vends * INSERTS_PER_VEND];
+        int[] prices = new int[vends];
+        for (int i = 0; i < inserted.length; i++) {
+            inserted[i] = random.nextInt(DENOMINATIONS.length);
+        }
+        for (int i = 0; i < vends; i++) {
+            prices[i] = PRICES_IN_CENTS[random.nextInt(PRICES_IN_CENTS.length)];
+        }
+
+        long fixedNanos = 0;
+        long doubleNanos = 0;
+        long fixedChecksum = 0;
+        long doubleChecksum = 0;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            fixedChecksum = 0;
+            for (int vend = 0, insert = 0; vend < vends; vend++) {
+                long paymentInCents = 0;
+                for (int j = 0; j < INSERTS_PER_VEND; j++, insert++) {
+                    int cents = DENOMINATIONS[inserted[insert]].getValueInCents();
+                    paymentInCents += Denomination.fromCents(cents).getValueInCents();
+                }
+                fixedChecksum += paymentInCents - prices[vend];
+            }
+            fixedNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            doubleChecksum = 0;
+            for (int vend = 0, insert = 0; vend < vends; vend++) {
+                double payment = 0;
+                for (int j = 0; j < INSERTS_PER_VEND; j++, insert++) {
+                    double value = doubleValues[inserted[insert]];
+                    payment += doubleValues[scanByValue(doubleValues, value)];
+                }
+                doubleChecksum += Math.round((payment - prices[vend] / 100.0) * 100);
+            }
+            doubleNanos = System.nanoTime() - start;
+        }
+        System.out.printf("Insert + change over %,d vends: long cents %.1f ns/vend, double %.1f ns/vend (checksums %d / %d)%n",
+            vends, fixedNanos / (double) vends, doubleNanos / (double) vends, fixedChecksum, doubleChecksum);
+
+        double doubleTotal = 0;
+        long centsTotal = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            doubleTotal += Denomination.DIME.getValueInCents() / 100.0;
+            centsTotal += Denomination.DIME.getValueInCents();
+        }
+        System.out.printf("1,000,000 dimes: double %.10f, long cents %s%n", doubleTotal, Amount.ofCents(centsTotal));
+    }
+
+    // The previous Denomination.fromValue: a linear scan comparing doubles with ==.
+    private static int scanByValue(double[] values, double value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown denomination value: " + value);
+    }
+}
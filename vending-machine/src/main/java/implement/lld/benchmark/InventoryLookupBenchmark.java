@@ -0,0 +1,100 @@
+package implement.lld.benchmark;
+
+import implement.lld.money.Amount;
+import implement.lld.product.Inventory;
+import implement.lld.product.InventoryManager;
+import implement.lld.product.Product;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times the selection check (is the product there and in stock) through the name and slot-code
+// indexes against the previous approach, which scanned the key set for the name and then copied
+// the whole stock map to read the quantity. Catalog sizes go from a single machine to a fleet server.
+// Usage: InventoryLookupBenchmark [selections]
+public class InventoryLookupBenchmark {
+    private static final int[] CATALOG_SIZES = {30, 1_000, 10_000};
+
+    public static void main(String[] args) {
+        int selections = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        for (int catalogSize : CATALOG_SIZES) {
+            InventoryManager inventoryManager = new InventoryManager(new Inventory());
+            ConcurrentHashMap<Product, Integer> legacyStock = new ConcurrentHashMap<>();
+            PrintStream console = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            for (int i = 0; i < catalogSize; i++) {
+                Product product = new Product("Product-" + i, Amount.ofCents(100 + i % 300));
+                inventoryManager.addProduct(product, 10, slotCode(i));
+                legacyStock.put(product, 10);
+            }
+            System.setOut(console);
+
+            Random random = new Random(5);
+            String[] names = new String[selections];
+            String[] slots = new String[selections];
+            for (int i = 0; i < selections; i++) {
+                int index = random.nextInt(catalogSize);
+                names[i] = "Product-" + index;
+                slots[i] = slotCode(index);
+            }
+            // The legacy path copies the map per selection, so it gets fewer selections to stay quick.
+            int legacySelections = Math.max(100, selections / catalogSize);
+
+            long indexedByName = 0;
+            long indexedBySlot = 0;
+            long legacy = 0;
+            long found = 0;
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < selections; i++) {
+                    Product product = inventoryManager.lookupProduct(names[i]);
+                    found += product != null && inventoryManager.getProductQuantity(product) > 0 ? 1 : 0;
+                }
+                indexedByName = (System.nanoTime() - start) / selections;
+
+                start = System.nanoTime();
+                for (int i = 0; i < selections; i++) {
+                    Product product = inventoryManager.lookupProduct(slots[i]);
+                    found += product != null && inventoryManager.getProductQuantity(product) > 0 ? 1 : 0;
+                }
+                indexedBySlot = (System.nanoTime() - start) / selections;
+
+                start = System.nanoTime();
+                for (int i = 0; i < legacySelections; i++) {
+                    found += legacyValidate(legacyStock, names[i]) ? 1 : 0;
+                }
+                legacy = (System.nanoTime() - start) / legacySelections;
+            }
+            System.out.printf("%,6d products: by name %,d ns, by slot %,d ns, scan + copy %,d ns per selection (%d)%n",
+                catalogSize, indexedByName, indexedBySlot, legacy, found % 2);
+        }
+    }
+
+    private static String slotCode(int index) {
+        return "R" + index / 10 + "-" + index % 10;
+    }
+
+    // The previous IdleVendingMoneyState.validateAvailability path.
+    private static boolean legacyValidate(ConcurrentHashMap<Product, Integer> stock, String productName) {
+        boolean present = false;
+        for (Product product : stock.keySet()) {
+            if (product.getName().equals(productName)) {
+                present = true;
+                break;
+            }
+        }
+        if (!present) {
+            return false;
+        }
+        HashMap<Product, Integer> copy = new HashMap<>(stock);
+        for (Product product : copy.keySet()) {
+            if (product.getName().equals(productName)) {
+                return copy.get(product) > 0;
+            }
+        }
+        return false;
+    }
+}
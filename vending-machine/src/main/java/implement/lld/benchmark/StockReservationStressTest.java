@@ -0,0 +1,132 @@
+package implement.lld.benchmark;
+
+import implement.lld.money.Amount;
+import implement.lld.product.Inventory;
+import implement.lld.product.InventoryManager;
+import implement.lld.product.Product;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Many sessions select, dispense and cancel the same few products at once through the reservation
+// API, with a restocker adding units meanwhile. Afterwards every product must satisfy
+// stocked = dispensed + available with nothing left reserved, and no session may have dispensed a
+// unit it did not reserve. A second phase races all sessions for a single last unit, many times,
+// and checks that exactly one session gets it each time. Exits with an exception on any violation.
+// Usage: StockReservationStressTest [sessions] [operationsPerSession]
+public class StockReservationStressTest {
+    private static final int PRODUCTS = 4;
+    private static final int INITIAL_STOCK = 1_000;
+    private static final int RESTOCK_ROUNDS = 200;
+    private static final int RESTOCK_QUANTITY = 5;
+    private static final int LAST_UNIT_ROUNDS = 2_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        // Inventory reports every add and restock on stdout; keep that out of the results.
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        InventoryManager inventoryManager = new InventoryManager(new Inventory());
+        Product[] products = new Product[PRODUCTS];
+        LongAdder[] dispensed = new LongAdder[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            products[i] = new Product("Product-" + i, Amount.ofCents(125));
+            inventoryManager.addProduct(products[i], INITIAL_STOCK);
+            dispensed[i] = new LongAdder();
+        }
+
+        LongAdder refused = new LongAdder();
+        LongAdder failedCommits = new LongAdder();
+        CountDownLatch done = new CountDownLatch(sessions + 1);
+        long start = System.nanoTime();
+        for (int s = 0; s < sessions; s++) {
+            new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int op = 0; op < operations; op++) {
+                    int index = random.nextInt(PRODUCTS);
+                    if (!inventoryManager.reserveProduct(products[index])) {
+                        refused.increment();
+                        continue;
+                    }
+                    if (random.nextInt(10) < 6) {
+                        if (inventoryManager.commitReservation(products[index])) {
+                            dispensed[index].increment();
+                        } else {
+                            failedCommits.increment();
+                        }
+                    } else if (!inventoryManager.releaseReservation(products[index])) {
+                        failedCommits.increment();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        new Thread(() -> {
+            for (int round = 0; round < RESTOCK_ROUNDS; round++) {
+                for (Product product : products) {
+                    inventoryManager.restockProduct(product, RESTOCK_QUANTITY);
+                }
+                Thread.yield();
+            }
+            done.countDown();
+        }).start();
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int stocked = INITIAL_STOCK + RESTOCK_ROUNDS * RESTOCK_QUANTITY;
+        for (int i = 0; i < PRODUCTS; i++) {
+            long sold = dispensed[i].sum();
+            int available = inventoryManager.getProductQuantity(products[i]);
+            int reserved = inventoryManager.getReservedQuantity(products[i]);
+            if (sold + available != stocked || reserved != 0 || available < 0) {
+                throw new IllegalStateException(products[i].getName() + ": stocked " + stocked + ", dispensed " + sold
+                    + ", available " + available + ", reserved " + reserved);
+            }
+        }
+        if (failedCommits.sum() != 0) {
+            throw new IllegalStateException(failedCommits.sum() + " commits or releases found no reservation");
+        }
+        console.printf("%d sessions x %,d operations: %,.0f operations/s, %,d refused, stock consistent for %d products%n",
+            sessions, operations, sessions * (double) operations / seconds, refused.sum(), PRODUCTS);
+
+        lastUnitRace(sessions, inventoryManager);
+        console.printf("Last unit: %,d rounds of %d sessions, exactly one winner every round%n", LAST_UNIT_ROUNDS, sessions);
+    }
+
+    private static void lastUnitRace(int sessions, InventoryManager inventoryManager) throws InterruptedException {
+        Product lastUnit = new Product("LastUnit", Amount.ofCents(100));
+        inventoryManager.addProduct(lastUnit, 0);
+        for (int round = 0; round < LAST_UNIT_ROUNDS; round++) {
+            inventoryManager.restockProduct(lastUnit, 1);
+            LongAdder winners = new LongAdder();
+            CountDownLatch go = new CountDownLatch(1);
+            Thread[] racers = new Thread[sessions];
+            for (int s = 0; s < sessions; s++) {
+                racers[s] = new Thread(() -> {
+                    try {
+                        go.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (inventoryManager.reserveProduct(lastUnit) && inventoryManager.commitReservation(lastUnit)) {
+                        winners.increment();
+                    }
+                });
+                racers[s].start();
+            }
+            go.countDown();
+            for (Thread racer : racers) {
+                racer.join();
+            }
+            if (winners.sum() != 1) {
+                throw new IllegalStateException("Round " + round + ": " + winners.sum() + " sessions got the last unit");
+            }
+        }
+    }
+}
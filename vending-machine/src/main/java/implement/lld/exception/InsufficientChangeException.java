@@ -0,0 +1,9 @@
+package implement.lld.exception;
+
+public class InsufficientChangeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InsufficientChangeException(String message) {
+        super(message);
+    }
+}
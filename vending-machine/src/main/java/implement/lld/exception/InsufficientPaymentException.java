@@ -0,0 +1,9 @@
+package implement.lld.exception;
+
+public class InsufficientPaymentException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InsufficientPaymentException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package implement.lld.money;
+
+// An exact amount of money in cents. Value-based: compare with equals, never with ==.
+public record Amount(long cents) implements Comparable<Amount> {
+    public static final Amount ZERO = new Amount(0);
+
+    public static Amount ofCents(long cents) {
+        return cents == 0 ? ZERO : new Amount(cents);
+    }
+
+    // Accepts "3", "3.5" and "3.50" (and a leading '-'); more than two decimals is an error rather
+    // than a silent rounding.
+    public static Amount parse(String text) {
+        String trimmed = text.trim();
+        boolean negative = trimmed.startsWith("-");
+        String digits = negative ? trimmed.substring(1) : trimmed;
+        int point = digits.indexOf('.');
+        String units = point < 0 ? digits : digits.substring(0, point);
+        String fraction = point < 0 ? "" : digits.substring(point + 1);
+        if (units.isEmpty() && fraction.isEmpty() || fraction.length() > 2
+                || !units.chars().allMatch(Character::isDigit) || !fraction.chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("Not an amount: " + text);
+        }
+        long cents = Math.addExact(Math.multiplyExact(units.isEmpty() ? 0 : Long.parseLong(units), 100),
+            fraction.isEmpty() ? 0 : Long.parseLong(fraction.length() == 1 ? fraction + "0" : fraction));
+        return ofCents(negative ? -cents : cents);
+    }
+
+    public Amount plus(Amount other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Amount minus(Amount other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Amount times(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    @Override
+    public int compareTo(Amount other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        long absolute = Math.abs(cents);
+        return (cents < 0 ? "-" : "") + absolute / 100 + "." + (absolute % 100 < 10 ? "0" : "") + absolute % 100;
+    }
+}
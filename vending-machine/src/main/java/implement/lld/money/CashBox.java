@@ -0,0 +1,149 @@
+package implement.lld.money;
+
+import implement.lld.exception.InsufficientChangeException;
+import implement.lld.exception.InsufficientPaymentException;
+import implement.lld.util.ChangeCalculatorUtil;
+
+import java.util.List;
+
+// Coins and notes physically held by the machine, counted per Denomination ordinal. Inserted money
+// goes in, change comes out, and change is only promised from what is actually here.
+//
+// A plan for some change can use at most change / value pieces of a denomination, so cached plans
+// are keyed on the counts capped at that: while the box holds more than any change could need,
+// money going in and out leaves the key alone and cached plans stay valid. The counts array is
+// replaced on every change, never written in place, so canMakeChange can read it without the lock.
+public class CashBox {
+    private static final Denomination[] DENOMINATIONS = Denomination.values();
+    private static final int[] VALUES_IN_CENTS = Denomination.getAllValuesInCents();
+
+    private volatile int[] counts = new int[DENOMINATIONS.length];
+    private final ChangePlanCache planCache;
+
+    public CashBox() {
+        this(new ChangePlanCache());
+    }
+
+    public CashBox(ChangePlanCache planCache) {
+        this.planCache = planCache;
+    }
+
+    public synchronized void deposit(Denomination denomination, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        adjust(denomination.ordinal(), quantity);
+    }
+
+    // Takes the inserted money only if the change it implies can be paid out of the box afterwards;
+    // otherwise leaves the box untouched so the money can be handed back. Negative change means the
+    // payment does not cover the price, which is never a sale.
+    public synchronized boolean depositIfChangeAvailable(Denomination denomination, int quantity, int changeInCents) {
+        requireCovered(changeInCents);
+        deposit(denomination, quantity);
+        if (changeInCents == 0 || findPlan(changeInCents) != null) {
+            return true;
+        }
+        adjust(denomination.ordinal(), -quantity);
+        return false;
+    }
+
+    // Lock-free when the plan for the current counts is cached; the answer can then be one update
+    // behind a concurrent deposit or dispense, which dispenseChange re-checks under the monitor.
+    public boolean canMakeChange(int changeInCents) {
+        if (changeInCents == 0) {
+            return true;
+        }
+        int[] usable = usableCounts(changeInCents, counts);
+        ChangePlanCache.Entry cached = planCache.get(changeInCents, usable);
+        if (cached != null) {
+            return cached.getPlan() != null;
+        }
+        synchronized (this) {
+            return findPlan(changeInCents) != null;
+        }
+    }
+
+    // Removes the fewest coins and notes adding up to the change and returns them.
+    public synchronized List<Money> dispenseChange(int changeInCents) {
+        requireCovered(changeInCents);
+        int[] plan = findPlan(changeInCents);
+        if (plan == null) {
+            throw new InsufficientChangeException("Cannot dispense exact change from the cash box");
+        }
+        for (int i = 0; i < plan.length; i++) {
+            if (plan[i] > 0) {
+                adjust(i, -plan[i]);
+            }
+        }
+        return ChangeCalculatorUtil.toMoneyList(plan);
+    }
+
+    // Hands back exactly the given pieces, by Denomination ordinal, such as the money inserted for a
+    // sale that did not happen. No change plan is involved, so it cannot fail for lack of change.
+    public synchronized List<Money> withdraw(int[] pieces) {
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] > counts[i]) {
+                throw new InsufficientChangeException("Cash box holds only " + counts[i] + " of " + DENOMINATIONS[i]);
+            }
+        }
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] > 0) {
+                adjust(i, -pieces[i]);
+            }
+        }
+        return ChangeCalculatorUtil.toMoneyList(pieces);
+    }
+
+    public synchronized int getCount(Denomination denomination) {
+        return counts[denomination.ordinal()];
+    }
+
+    public ChangePlanCacheMetrics getPlanCacheMetrics() {
+        return planCache.getMetrics();
+    }
+
+    public synchronized void showContents() {
+        for (Denomination denomination : DENOMINATIONS) {
+            if (counts[denomination.ordinal()] > 0) {
+                System.out.println(denomination + " : " + counts[denomination.ordinal()]);
+            }
+        }
+    }
+
+    private static void requireCovered(int changeInCents) {
+        if (changeInCents < 0) {
+            throw new InsufficientPaymentException("Payment is " + Amount.ofCents(-changeInCents) + " short of the price");
+        }
+    }
+
+    // Caller holds the monitor.
+    private int[] findPlan(int changeInCents) {
+        int[] usable = usableCounts(changeInCents, counts);
+        ChangePlanCache.Entry cached = planCache.get(changeInCents, usable);
+        if (cached != null) {
+            return cached.getPlan();
+        }
+        long start = System.nanoTime();
+        int[] plan = ChangeCalculatorUtil.calculateChangeCounts(changeInCents, usable);
+        planCache.put(changeInCents, usable, plan, System.nanoTime() - start);
+        return plan;
+    }
+
+    // The pieces of each denomination a plan for this change could use; more than that makes no
+    // difference to the plan.
+    private static int[] usableCounts(int changeInCents, int[] counts) {
+        int[] usable = new int[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            usable[i] = Math.min(counts[i], changeInCents / VALUES_IN_CENTS[i]);
+        }
+        return usable;
+    }
+
+    // Caller holds the monitor.
+    private void adjust(int denomination, int delta) {
+        int[] next = counts.clone();
+        next[denomination] += delta;
+        counts = next;
+    }
+}
@@ -0,0 +1,120 @@
+package implement.lld.money;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded cache of change plans keyed by change in cents and the usable piece counts: per
+// Denomination ordinal, the pieces in the box capped at how many of that denomination could fit in
+// the change. The plan depends on nothing else, so a key never serves a plan the current box could
+// not pay or misses one it could. Set-associative: a key can only live in the WAYS slots of its
+// set, and a full set evicts its least recently used entry, so the cache never holds more than its
+// capacity. Entries are immutable and slots are swapped with plain atomic writes, so lookups take
+// no lock.
+public class ChangePlanCache {
+    public static final int DEFAULT_CAPACITY = 256;
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int setMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder computeNanos = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    public ChangePlanCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ChangePlanCache(int capacity) {
+        int sets = Integer.highestOneBit(Math.max(1, capacity / WAYS));
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+    }
+
+    // The cached lookup result, or null on a miss. A hit can be a cached "no exact change" result;
+    // check getPlan().
+    public Entry get(int changeInCents, int[] usable) {
+        int hash = hashOf(changeInCents, usable);
+        int base = setOf(hash);
+        for (int way = 0; way < WAYS; way++) {
+            Entry entry = slots.get(base + way);
+            if (entry != null && entry.matches(changeInCents, hash, usable)) {
+                entry.lastUsed = System.nanoTime();
+                hits.increment();
+                savedNanos.add(entry.computeNanos);
+                return entry;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    // plan is a count per Denomination ordinal, or null when exact change is impossible; neither it
+    // nor usable may be modified afterwards. computeNanos is what the plan cost, credited on every
+    // later hit.
+    public void put(int changeInCents, int[] usable, int[] plan, long computeNanos) {
+        this.computeNanos.add(computeNanos);
+        int hash = hashOf(changeInCents, usable);
+        Entry entry = new Entry(changeInCents, hash, usable, plan, computeNanos);
+        int base = setOf(hash);
+        int victim = base;
+        long oldest = Long.MAX_VALUE;
+        for (int way = 0; way < WAYS; way++) {
+            Entry current = slots.get(base + way);
+            if (current == null || current.matches(changeInCents, hash, usable)) {
+                victim = base + way;
+                break;
+            }
+            if (current.lastUsed < oldest) {
+                oldest = current.lastUsed;
+                victim = base + way;
+            }
+        }
+        slots.set(victim, entry);
+    }
+
+    public ChangePlanCacheMetrics getMetrics() {
+        return new ChangePlanCacheMetrics(hits.sum(), misses.sum(), computeNanos.sum(), savedNanos.sum());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private static int hashOf(int changeInCents, int[] usable) {
+        long hash = (changeInCents * 0x9E3779B97F4A7C15L) ^ (Arrays.hashCode(usable) * 0xC2B2AE3D27D4EB4FL);
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    private int setOf(int hash) {
+        return (hash & setMask) * WAYS;
+    }
+
+    public static final class Entry {
+        private final int changeInCents;
+        private final int hash;
+        private final int[] usable;
+        private final int[] plan;
+        private final long computeNanos;
+        private volatile long lastUsed;
+
+        private Entry(int changeInCents, int hash, int[] usable, int[] plan, long computeNanos) {
+            this.changeInCents = changeInCents;
+            this.hash = hash;
+            this.usable = usable;
+            this.plan = plan;
+            this.computeNanos = computeNanos;
+            this.lastUsed = System.nanoTime();
+        }
+
+        private boolean matches(int changeInCents, int hash, int[] usable) {
+            return this.changeInCents == changeInCents && this.hash == hash && Arrays.equals(this.usable, usable);
+        }
+
+        // Count per Denomination ordinal, or null if exact change was impossible. Do not modify.
+        public int[] getPlan() {
+            return plan;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package implement.lld.money;
+
+// savedNanos is the compute time of the plans that hits served, i.e. the DP work avoided.
+public record ChangePlanCacheMetrics(long hits, long misses, long computeNanos, long savedNanos) {
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Change plan cache: %d hits, %d misses (%.1f%% hit rate), %.3f ms computing, %.3f ms saved",
+            hits, misses, hitRate() * 100, computeNanos / 1e6, savedNanos / 1e6);
+    }
+}
@@ -3,29 +3,53 @@ package implement.lld.money;
 import implement.lld.exception.UnknownDenominationException;
 
 public enum Denomination {
-    ONE(1),
-    TWO(2),
-    FIVE(5),
-    TEN(10),
-    TWENTY(20),
-    FIFTY(50),
-    HUNDRED(100),
-    TWO_HUNDRED(200),
-    FIVE_HUNDRED(500),
-    THOUSAND(1000),
-    CENT(0.01),
-    NICKEL(0.05),
-    DIME(0.1),
-    QUARTER(0.25);
+    ONE(100),
+    TWO(200),
+    FIVE(500),
+    TEN(1000),
+    TWENTY(2000),
+    FIFTY(5000),
+    HUNDRED(10000),
+    TWO_HUNDRED(20000),
+    FIVE_HUNDRED(50000),
+    THOUSAND(100000),
+    CENT(1),
+    NICKEL(5),
+    DIME(10),
+    QUARTER(25);
 
-    private final double denominationValue;
+    private static final int[] VALUES_IN_CENTS = computeValuesInCents();
+    // Direct-index lookup by value: coins by cents below 100, notes by whole units.
+    private static final Denomination[] COINS_BY_CENTS = new Denomination[100];
+    private static final Denomination[] NOTES_BY_UNITS;
 
-    Denomination(double denominationValue) {
-        this.denominationValue = denominationValue;
+    static {
+        int largestUnits = 0;
+        for (Denomination denomination : values()) {
+            largestUnits = Math.max(largestUnits, denomination.valueInCents / 100);
+        }
+        NOTES_BY_UNITS = new Denomination[largestUnits + 1];
+        for (Denomination denomination : values()) {
+            if (denomination.valueInCents < 100) {
+                COINS_BY_CENTS[denomination.valueInCents] = denomination;
+            } else {
+                NOTES_BY_UNITS[denomination.valueInCents / 100] = denomination;
+            }
+        }
+    }
+
+    private final int valueInCents;
+
+    Denomination(int valueInCents) {
+        this.valueInCents = valueInCents;
+    }
+
+    public int getValueInCents() {
+        return valueInCents;
     }
 
-    public double getDenominationValue() {
-        return denominationValue;
+    public Amount getValue() {
+        return Amount.ofCents(valueInCents);
     }
 
     public static Denomination getValue(String denomination) {
@@ -36,20 +60,33 @@ public enum Denomination {
         }
     }
 
-    public static Denomination fromValue(double value) {
-        for (Denomination denomination : Denomination.values()) {
-            if (denomination.getDenominationValue() == value) {
-                return denomination;
-            }
+    public static Denomination fromCents(long cents) {
+        Denomination denomination = null;
+        if (cents > 0 && cents < 100) {
+            denomination = COINS_BY_CENTS[(int) cents];
+        } else if (cents % 100 == 0 && cents / 100 > 0 && cents / 100 < NOTES_BY_UNITS.length) {
+            denomination = NOTES_BY_UNITS[(int) (cents / 100)];
         }
-        throw new UnknownDenominationException("Unknown denomination value: " + value);
+        if (denomination == null) {
+            throw new UnknownDenominationException("Unknown denomination value: " + Amount.ofCents(cents));
+        }
+        return denomination;
     }
 
+    public static Denomination fromValue(Amount value) {
+        return fromCents(value.cents());
+    }
+
+    // Indexed by ordinal; computed once, callers get a copy.
     public static int[] getAllValuesInCents() {
+        return VALUES_IN_CENTS.clone();
+    }
+
+    private static int[] computeValuesInCents() {
         Denomination[] denominations = Denomination.values();
         int[] values = new int[denominations.length];
         for (int i = 0; i < denominations.length; i++) {
-            values[i] = (int) (denominations[i].getDenominationValue() * 100);
+            values[i] = denominations[i].valueInCents;
         }
         return values;
     }
@@ -20,8 +20,12 @@ public abstract class Money {
         return denomination;
     }
 
-    public double getMoneyValue() {
-        return quantity * denomination.getDenominationValue();
+    public Amount getMoneyValue() {
+        return Amount.ofCents(getValueInCents());
+    }
+
+    public long getValueInCents() {
+        return (long) quantity * denomination.getValueInCents();
     }
 
     public MoneyType getMoneyType() {
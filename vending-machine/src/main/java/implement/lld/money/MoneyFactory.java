@@ -22,7 +22,7 @@ public class MoneyFactory {
         };
     }
 
-    public static List<Money> calculateChange(double totalAmount, double productPrice) {
+    public static List<Money> calculateChange(Amount totalAmount, Amount productPrice) {
         return ChangeCalculatorUtil.calculateChange(totalAmount, productPrice);
     }
 }
@@ -2,51 +2,106 @@ package implement.lld.product;
 
 import implement.lld.exception.InvalidProductException;
 import implement.lld.exception.OutOfStockException;
+import implement.lld.money.Amount;
 
 import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
+// Stock per product plus two indexes for selection: product name and keypad slot code (such as
+// "A1"). The indexes are only changed by add and remove, which are serialized on the inventory so
+// the three maps always agree; lookups are single ConcurrentHashMap reads without locking.
+// Selling goes through StockSlot reservations, which are lock-free and do not throw.
 public class Inventory {
-    private final ConcurrentHashMap<Product, Integer> products = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Product, StockSlot> products = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Product> productsByName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Product> productsBySlot = new ConcurrentHashMap<>();
 
     protected void addProduct(Product product, int quantity) {
+        addProduct(product, quantity, null);
+    }
+
+    // slotCode may be null for a product that is only selected by name.
+    // A name or slot already taken by another product is rejected with InvalidProductException.
+    protected synchronized void addProduct(Product product, int quantity, String slotCode) {
+        Product sameName = productsByName.get(product.getName());
+        if (sameName != null && sameName != product) {
+            throw new InvalidProductException("Another product named " + product.getName() + " is already stocked");
+        }
+        String slot = slotCode == null ? null : normalizeSlotCode(slotCode);
+        Product inSlot = slot == null ? null : productsBySlot.get(slot);
+        if (inSlot != null && inSlot != product) {
+            throw new InvalidProductException("Slot " + slot + " already holds " + inSlot.getName());
+        }
         try {
-            products.merge(product, quantity, Integer::sum);
+            products.computeIfAbsent(product, key -> new StockSlot()).add(quantity);
+            productsByName.put(product.getName(), product);
+            if (slot != null) {
+                productsBySlot.put(slot, product);
+            }
             System.out.println(quantity + " units of product " + product.getName() + " added successfully!");
         } catch (Exception e) {
             System.out.println("Error while adding product: " + e.getMessage());
         }
     }
 
-    protected void removeProduct(Product product) {
-        try {
-            products.remove(product);
-            System.out.println("Product " + product.getName() + " removed successfully!");
-        } catch (Exception e) {
+    // Refused while a selection holds a unit: that selection has been paid for or soon will be, and
+    // its dispense must still find the product. The slot is retired by CAS only while nothing is
+    // reserved, so a selection racing the removal either gets in first or finds nothing to reserve.
+    protected synchronized void removeProduct(Product product) {
+        StockSlot slot = products.get(product);
+        if (slot == null) {
             throw new InvalidProductException("Product " + product.getName() + " is not available");
         }
+        if (!slot.retire()) {
+            throw new InvalidProductException("Product " + product.getName() + " has " + slot.getReserved()
+                + " units held by open selections");
+        }
+        products.remove(product);
+        productsByName.remove(product.getName(), product);
+        productsBySlot.values().removeIf(slotProduct -> slotProduct == product);
+        System.out.println("Product " + product.getName() + " removed successfully!");
     }
 
     protected void restockProduct(Product product, int quantity) {
-        if (products.get(product) == null) {
+        StockSlot slot = products.get(product);
+        if (slot == null) {
+            throw new InvalidProductException("Product " + product.getName() + " is not available");
+        }
+        if (!slot.add(quantity)) {
             throw new InvalidProductException("Product " + product.getName() + " is not available");
         }
-        products.computeIfPresent(product, (oldProduct, oldQuantity) -> oldQuantity + quantity);
         System.out.println(quantity + " units of product " + product.getName() + " restocked successfully!");
     }
 
+    // Sells a unit that was not reserved first.
     protected void decreaseProductQuantity(Product product) {
-        products.computeIfPresent(product, (oldProduct, oldQuantity) -> {
-            if (oldQuantity <= 1) {
-                throw new OutOfStockException("Product " + product.getName() + " is out of stock");
-            }
-            return oldQuantity - 1;
-        });
+        StockSlot slot = products.get(product);
+        if (slot == null || !slot.tryTake()) {
+            throw new OutOfStockException("Product " + product.getName() + " is out of stock");
+        }
         System.out.println("Quantity of product " + product.getName() + " decreased successfully!");
     }
 
+    // Holds one unit for a selection; false if none is free or the product is not stocked.
+    protected boolean reserveProduct(Product product) {
+        StockSlot slot = products.get(product);
+        return slot != null && slot.tryReserve();
+    }
+
+    // The reserved unit was dispensed.
+    protected boolean commitReservation(Product product) {
+        StockSlot slot = products.get(product);
+        return slot != null && slot.commit();
+    }
 
-    protected void changeProductPrice(Product product, double price) {
+    // The selection was cancelled or timed out; the unit can be selected again.
+    protected boolean releaseReservation(Product product) {
+        StockSlot slot = products.get(product);
+        return slot != null && slot.release();
+    }
+
+
+    protected void changeProductPrice(Product product, Amount price) {
         if (products.get(product) == null) {
             throw new InvalidProductException("Product " + product.getName() + " is not available");
         }
@@ -54,25 +109,47 @@ public class Inventory {
         System.out.println("Price of product " + product.getName() + " changed successfully!");
     }
 
+    // Units free to select per product; units held by open selections are not counted.
     protected HashMap<Product, Integer> getAllAvailableProducts() {
-        return new HashMap<>(products);
+        HashMap<Product, Integer> available = new HashMap<>();
+        products.forEach((product, slot) -> available.put(product, slot.getAvailable()));
+        return available;
     }
 
     protected boolean isProductAvailableByName(String productName) {
-        for (Product product : products.keySet()) {
-            if (product.getName().equals(productName)) {
-                return true;
-            }
-        }
-        return false;
+        return productsByName.containsKey(productName);
     }
 
     protected Product findProductByName(String productName) {
-        for (Product product : products.keySet()) {
-            if (product.getName().equals(productName)) {
-                return product;
-            }
+        Product product = productsByName.get(productName);
+        if (product == null) {
+            throw new InvalidProductException("Product " + productName + " is not available");
         }
-        throw new InvalidProductException("Product " + productName + " is not available");
+        return product;
+    }
+
+    // A keypad slot code or a product name, slot codes first; null if neither is stocked. Slot codes
+    // are stored upper-case, and the code is only normalized when the exact lookups miss.
+    protected Product lookupProduct(String selection) {
+        Product product = productsBySlot.get(selection);
+        if (product == null) {
+            product = productsByName.get(selection);
+        }
+        return product != null ? product : productsBySlot.get(normalizeSlotCode(selection));
+    }
+
+    // Units free to select.
+    protected int getProductQuantity(Product product) {
+        StockSlot slot = products.get(product);
+        return slot == null ? 0 : slot.getAvailable();
+    }
+
+    protected int getReservedQuantity(Product product) {
+        StockSlot slot = products.get(product);
+        return slot == null ? 0 : slot.getReserved();
+    }
+
+    private static String normalizeSlotCode(String slotCode) {
+        return slotCode.trim().toUpperCase();
     }
 }
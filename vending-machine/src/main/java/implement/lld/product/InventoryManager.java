@@ -1,6 +1,6 @@
 package implement.lld.product;
 
-import implement.lld.exception.InvalidProductException;
+import implement.lld.money.Amount;
 
 import java.util.HashMap;
 
@@ -15,6 +15,10 @@ public class InventoryManager {
         inventory.addProduct(product, quantity);
     }
 
+    public void addProduct(Product product, int quantity, String slotCode) {
+        inventory.addProduct(product, quantity, slotCode);
+    }
+
     public void removeProduct(Product product) {
         inventory.removeProduct(product);
     }
@@ -27,18 +31,32 @@ public class InventoryManager {
         inventory.decreaseProductQuantity(product);
     }
 
-    public void changeProductPrice(Product product, double price) {
+    public boolean reserveProduct(Product product) {
+        return inventory.reserveProduct(product);
+    }
+
+    public boolean commitReservation(Product product) {
+        return inventory.commitReservation(product);
+    }
+
+    public boolean releaseReservation(Product product) {
+        return inventory.releaseReservation(product);
+    }
+
+    public int getReservedQuantity(Product product) {
+        return inventory.getReservedQuantity(product);
+    }
+
+    public void changeProductPrice(Product product, Amount price) {
         inventory.changeProductPrice(product, price);
     }
 
     public int getProductQuantity(String productName) {
-        HashMap<Product, Integer> products = inventory.getAllAvailableProducts();
-        for (Product product : products.keySet()) {
-            if (product.getName().equals(productName)) {
-                return products.get(product);
-            }
-        }
-        throw new InvalidProductException("Product " + productName + " is not available");
+        return inventory.getProductQuantity(inventory.findProductByName(productName));
+    }
+
+    public int getProductQuantity(Product product) {
+        return inventory.getProductQuantity(product);
     }
 
     public void showAllAvailableProducts() {
@@ -55,4 +73,9 @@ public class InventoryManager {
     public Product getProductByName(String productName) {
         return inventory.findProductByName(productName);
     }
+
+    // Resolves what was entered at the machine: a keypad slot code or a product name.
+    public Product lookupProduct(String selection) {
+        return inventory.lookupProduct(selection);
+    }
 }
@@ -1,28 +1,34 @@
 package implement.lld.product;
 
+import implement.lld.money.Amount;
+
 public class Product {
     private final String name;
-    private double price;
+    private long priceInCents;
 
-    public Product(String name, double price) {
+    public Product(String name, Amount price) {
         this.name = name;
-        this.price = price;
+        this.priceInCents = price.cents();
     }
 
     public String getName() {
         return name;
     }
 
-    public double getPrice() {
-        return price;
+    public Amount getPrice() {
+        return Amount.ofCents(priceInCents);
+    }
+
+    public long getPriceInCents() {
+        return priceInCents;
     }
 
-    public void setPrice(double price) {
-        this.price = price;
+    public void setPrice(Amount price) {
+        this.priceInCents = price.cents();
     }
 
     @Override
     public String toString() {
-        return name + " : " + price;
+        return name + " : " + getPrice();
     }
 }
@@ -0,0 +1,106 @@
+package implement.lld.product;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Stock of one product as two counts packed in one AtomicLong and changed only by CAS: units free
+// to select (high half), and units held by selections that have been neither dispensed nor
+// released (low half). A unit moves from available to reserved on selection, leaves the machine on
+// commit, and goes back to available on release. Keeping both counts in one word lets removal
+// retire the slot in the same CAS that sees no reservation, so no selection can slip in between.
+final class StockSlot {
+    // Every later operation fails on a retired slot: both halves read as -1.
+    private static final long RETIRED = -1L;
+
+    private final AtomicLong state = new AtomicLong();
+
+    // False if the slot has been retired.
+    boolean add(int quantity) {
+        long current = state.get();
+        while (current != RETIRED) {
+            if (state.compareAndSet(current, pack(availableOf(current) + quantity, reservedOf(current)))) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    boolean tryReserve() {
+        long current = state.get();
+        while (availableOf(current) > 0) {
+            if (state.compareAndSet(current, pack(availableOf(current) - 1, reservedOf(current) + 1))) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    boolean commit() {
+        long current = state.get();
+        while (reservedOf(current) > 0) {
+            if (state.compareAndSet(current, pack(availableOf(current), reservedOf(current) - 1))) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    boolean release() {
+        long current = state.get();
+        while (reservedOf(current) > 0) {
+            if (state.compareAndSet(current, pack(availableOf(current) + 1, reservedOf(current) - 1))) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    // Takes a unit without a prior reservation.
+    boolean tryTake() {
+        long current = state.get();
+        while (availableOf(current) > 0) {
+            if (state.compareAndSet(current, pack(availableOf(current) - 1, reservedOf(current)))) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    // Retires the slot if no unit is reserved; false, leaving it unchanged, otherwise.
+    boolean retire() {
+        long current = state.get();
+        while (current != RETIRED && reservedOf(current) == 0) {
+            if (state.compareAndSet(current, RETIRED)) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    int getAvailable() {
+        long current = state.get();
+        return current == RETIRED ? 0 : availableOf(current);
+    }
+
+    int getReserved() {
+        long current = state.get();
+        return current == RETIRED ? 0 : reservedOf(current);
+    }
+
+    private static long pack(int available, int reserved) {
+        return (long) available << 32 | reserved & 0xFFFFFFFFL;
+    }
+
+    private static int availableOf(long state) {
+        return (int) (state >> 32);
+    }
+
+    private static int reservedOf(long state) {
+        return (int) state;
+    }
+}
@@ -3,6 +3,10 @@ package implement.lld.state;
 import implement.lld.VendingMachine;
 import implement.lld.exception.InvalidInputException;
 import implement.lld.money.Denomination;
+import implement.lld.money.Money;
+import implement.lld.product.Product;
+
+import java.util.List;
 
 public class DispenseVendingMoneyState implements IVendingMoneyState {
     private final VendingMachine vendingMachine;
@@ -21,11 +25,22 @@ public class DispenseVendingMoneyState implements IVendingMoneyState {
         throw new InvalidInputException("Dispensing product. Please wait");
     }
 
+    // Removal cannot retire a product while this unit is reserved, so a failed commit means the
+    // inventory was changed behind the machine's back. The inserted pieces are then handed back as
+    // they came in, with no change plan that could fail, and the machine goes back to Idle.
     @Override
     public void dispenseProduct() {
-        vendingMachine.getInventoryManager().decreaseProductQuantity(vendingMachine.getSelectedProduct());
+        Product product = vendingMachine.getSelectedProduct();
+        if (!vendingMachine.getInventoryManager().commitReservation(product)) {
+            List<Money> refund = vendingMachine.getCashBox().withdraw(vendingMachine.getInsertedPieces());
+            vendingMachine.resetPayment();
+            vendingMachine.resetSelectedProduct();
+            vendingMachine.setVendingMoneyState(vendingMachine.getIdleVendingMoneyState());
+            System.out.println("Product " + product.getName() + " is no longer stocked. Returning " + refund);
+            return;
+        }
         vendingMachine.setVendingMoneyState(getNextState());
-        System.out.println("Product " + vendingMachine.getSelectedProduct() + " dispensed!");
+        System.out.println("Product " + product + " dispensed!");
     }
 
     @Override
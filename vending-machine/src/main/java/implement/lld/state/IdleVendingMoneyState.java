@@ -14,10 +14,10 @@ public class IdleVendingMoneyState implements IVendingMoneyState {
 
     @Override
     public void selectProduct(String productName) {
-        if (validateAvailability(productName)) {
-            Product selectedProduct = vendingMachine.getInventoryManager().getProductByName(productName);
+        Product selectedProduct = vendingMachine.getInventoryManager().lookupProduct(productName);
+        if (selectedProduct != null && vendingMachine.getInventoryManager().reserveProduct(selectedProduct)) {
             vendingMachine.setSelectedProduct(selectedProduct);
-            vendingMachine.setCurrentPayment(0);
+            vendingMachine.setCurrentPaymentInCents(0);
             vendingMachine.setVendingMoneyState(getNextState());
         } else {
             System.out.println("Selected product is not present, please try again with different product");
@@ -49,11 +49,4 @@ public class IdleVendingMoneyState implements IVendingMoneyState {
     public IVendingMoneyState getNextState() {
         return vendingMachine.getReadyVendingMoneyState();
     }
-
-    private boolean validateAvailability(String productName) {
-        if(!vendingMachine.getInventoryManager().isProductAvailableByName(productName)) {
-            return false;
-        }
-        return vendingMachine.getInventoryManager().getProductQuantity(productName) > 0;
-    }
 }
@@ -2,10 +2,13 @@ package implement.lld.state;
 
 import implement.lld.VendingMachine;
 import implement.lld.exception.InvalidInputException;
+import implement.lld.money.Amount;
 import implement.lld.money.Denomination;
 import implement.lld.money.Money;
 import implement.lld.money.MoneyFactory;
 
+import java.util.List;
+
 
 public class ReadyVendingMoneyState implements IVendingMoneyState {
     private final VendingMachine vendingMachine;
@@ -16,13 +19,39 @@ public class ReadyVendingMoneyState implements IVendingMoneyState {
 
     @Override
     public void selectProduct(String productName) {
+        printReturned(returnInsertedMoney());
+        vendingMachine.releaseSelectedProduct();
         vendingMachine.setVendingMoneyState(vendingMachine.getIdleVendingMoneyState());
     }
 
     @Override
     public void insertMoney(int quantity, Denomination denomination) {
+        if (vendingMachine.isSelectionExpired(System.currentTimeMillis())) {
+            cancelTransaction();
+            System.out.println("Selection timed out. Returning " + MoneyFactory.createMoney(quantity, denomination));
+            return;
+        }
         Money money = MoneyFactory.createMoney(quantity, denomination);
-        vendingMachine.setCurrentPayment(vendingMachine.getCurrentPayment() + money.getMoneyValue());
+        long paymentInCents = vendingMachine.getCurrentPaymentInCents() + money.getValueInCents();
+        long priceInCents = vendingMachine.getSelectedProduct().getPriceInCents();
+        // Short of the price: keep the money and wait for more.
+        if (paymentInCents < priceInCents) {
+            vendingMachine.getCashBox().deposit(denomination, quantity);
+            vendingMachine.recordInsertedMoney(denomination, quantity);
+            System.out.println("Paid " + Amount.ofCents(paymentInCents) + ", please insert "
+                + Amount.ofCents(priceInCents - paymentInCents) + " more.");
+            return;
+        }
+        int changeInCents = Math.toIntExact(paymentInCents - priceInCents);
+        if (!vendingMachine.getCashBox().depositIfChangeAvailable(denomination, quantity, changeInCents)) {
+            List<Money> returned = returnInsertedMoney();
+            vendingMachine.releaseSelectedProduct();
+            vendingMachine.setVendingMoneyState(vendingMachine.getIdleVendingMoneyState());
+            System.out.println("Cannot return exact change for this payment. Returning " + money + ", please use exact change.");
+            printReturned(returned);
+            return;
+        }
+        vendingMachine.recordInsertedMoney(denomination, quantity);
         vendingMachine.setVendingMoneyState(getNextState());
     }
 
@@ -38,14 +67,28 @@ public class ReadyVendingMoneyState implements IVendingMoneyState {
 
     @Override
     public void cancelTransaction() {
-        vendingMachine.resetPayment();
-        vendingMachine.resetSelectedProduct();
+        List<Money> returned = returnInsertedMoney();
+        vendingMachine.releaseSelectedProduct();
         vendingMachine.setVendingMoneyState(vendingMachine.getIdleVendingMoneyState());
         System.out.println("Transaction cancelled, please select a product.");
+        printReturned(returned);
     }
 
     @Override
     public IVendingMoneyState getNextState() {
         return vendingMachine.getDispenseVendingMoneyState();
     }
+
+    // Hands back the pieces inserted so far for this selection and clears the payment.
+    private List<Money> returnInsertedMoney() {
+        List<Money> returned = vendingMachine.getCashBox().withdraw(vendingMachine.getInsertedPieces());
+        vendingMachine.resetPayment();
+        return returned;
+    }
+
+    private static void printReturned(List<Money> returned) {
+        if (!returned.isEmpty()) {
+            System.out.println("Returning earlier payment: " + returned);
+        }
+    }
 }
@@ -4,7 +4,6 @@ import implement.lld.VendingMachine;
 import implement.lld.exception.InvalidInputException;
 import implement.lld.money.Denomination;
 import implement.lld.money.Money;
-import implement.lld.money.MoneyFactory;
 
 import java.util.List;
 
@@ -32,10 +31,8 @@ public class ReturnMoneyVendingMoneyState implements IVendingMoneyState {
 
     @Override
     public void returnChange() {
-        List<Money> calculatedChange = MoneyFactory.calculateChange(
-            vendingMachine.getCurrentPayment(),
-            vendingMachine.getSelectedProduct().getPrice()
-        );
+        long changeInCents = vendingMachine.getCurrentPaymentInCents() - vendingMachine.getSelectedProduct().getPriceInCents();
+        List<Money> calculatedChange = vendingMachine.getCashBox().dispenseChange(Math.toIntExact(changeInCents));
         if (!calculatedChange.isEmpty()) {
             System.out.println("Returning change: ");
             printChangeToReturn(calculatedChange);
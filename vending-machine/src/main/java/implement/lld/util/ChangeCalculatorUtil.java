@@ -1,53 +1,136 @@
 package implement.lld.util;
 
+import implement.lld.money.Amount;
 import implement.lld.money.Denomination;
 import implement.lld.money.Money;
 import implement.lld.money.MoneyFactory;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 public class ChangeCalculatorUtil {
+    private static final Denomination[] DENOMINATIONS = Denomination.values();
+    private static final int[] VALUES_IN_CENTS = Denomination.getAllValuesInCents();
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
 
-    public static List<Money> calculateChange(double totalAmount, double productPrice) {
-        double change = totalAmount - productPrice;
-        int changeInCents = (int) Math.round(change * 100);
+    public static List<Money> calculateChange(Amount totalAmount, Amount productPrice) {
+        int changeInCents = Math.toIntExact(totalAmount.minus(productPrice).cents());
+        return toMoneyList(calculateChangeCounts(changeInCents));
+    }
 
-        int[] allValuesInCents = Denomination.getAllValuesInCents();
-        List<Integer>[] dp = new ArrayList[changeInCents + 1];
-        dp[0] = new ArrayList<>(Collections.nCopies(allValuesInCents.length, 0));
+    // Fewest coins and notes adding up to the amount, as a count per Denomination ordinal.
+    // minPieces[a] is the fewest pieces for a cents and lastDenomination[a] the piece that reaches it,
+    // so the plan is rebuilt by walking back from the full amount once the table is filled.
+    public static int[] calculateChangeCounts(int changeInCents) {
+        if (changeInCents < 0) {
+            throw new IllegalArgumentException("Payment is less than the product price.");
+        }
+        int[] minPieces = new int[changeInCents + 1];
+        int[] lastDenomination = new int[changeInCents + 1];
+        Arrays.fill(minPieces, 1, changeInCents + 1, UNREACHABLE);
 
-        for (int i = 0; i < allValuesInCents.length; i++) {
-            int denominationInCent = allValuesInCents[i];
+        for (int i = 0; i < VALUES_IN_CENTS.length; i++) {
+            int denominationInCent = VALUES_IN_CENTS[i];
             for (int amount = denominationInCent; amount <= changeInCents; amount++) {
-                if (dp[amount - denominationInCent] != null) {
-                    List<Integer> newCombination = new ArrayList<>(dp[amount - denominationInCent]);
-                    newCombination.set(i, newCombination.get(i) + 1);
-                    if (dp[amount] == null || totalCoins(newCombination) < totalCoins(dp[amount])) {
-                        dp[amount] = newCombination;
-                    }
+                int previous = minPieces[amount - denominationInCent];
+                if (previous != UNREACHABLE && previous + 1 < minPieces[amount]) {
+                    minPieces[amount] = previous + 1;
+                    lastDenomination[amount] = i;
                 }
             }
         }
 
-        if (dp[changeInCents] == null) {
-            throw new IllegalArgumentException("Cannot dispense exact change with available allValuesInCents.");
+        if (minPieces[changeInCents] == UNREACHABLE) {
+            throw new IllegalArgumentException("Cannot dispense exact change with available denominations.");
+        }
+
+        int[] counts = new int[DENOMINATIONS.length];
+        for (int amount = changeInCents; amount > 0; amount -= VALUES_IN_CENTS[lastDenomination[amount]]) {
+            counts[lastDenomination[amount]]++;
+        }
+        return counts;
+    }
+
+    // Fewest pieces adding up to the amount using at most available[i] of each denomination, as a
+    // count per Denomination ordinal, or null if no exact combination exists. Bounded knapsack, one
+    // layer per usable denomination: along each residue class modulo the denomination value a
+    // monotone queue keeps the best previous amount within the last available[i] steps, so a layer
+    // costs O(amount) whatever the count. take[layer][a] records how many pieces of that layer's
+    // denomination the best plan for a uses, which is all the walk back needs.
+    public static int[] calculateChangeCounts(int changeInCents, int[] available) {
+        if (changeInCents < 0) {
+            throw new IllegalArgumentException("Payment is less than the product price.");
+        }
+        int[] layerDenominations = new int[VALUES_IN_CENTS.length];
+        int layers = 0;
+        for (int i = 0; i < VALUES_IN_CENTS.length; i++) {
+            if (available[i] > 0 && VALUES_IN_CENTS[i] <= changeInCents) {
+                layerDenominations[layers++] = i;
+            }
+        }
+
+        int[] minPieces = new int[changeInCents + 1];
+        int[] nextMinPieces = new int[changeInCents + 1];
+        Arrays.fill(minPieces, 1, changeInCents + 1, UNREACHABLE);
+        int[][] take = new int[layers][changeInCents + 1];
+        int[] window = new int[changeInCents + 1];
+
+        for (int layer = 0; layer < layers; layer++) {
+            int denomination = layerDenominations[layer];
+            int value = VALUES_IN_CENTS[denomination];
+            int limit = available[denomination];
+            for (int residue = 0; residue < value && residue <= changeInCents; residue++) {
+                // window holds step numbers j (amount residue + j * value) with increasing
+                // minPieces[amount] - j; head is the best start for the current step.
+                int head = 0;
+                int tail = 0;
+                for (int step = 0, amount = residue; amount <= changeInCents; step++, amount += value) {
+                    if (minPieces[amount] != UNREACHABLE) {
+                        int key = minPieces[amount] - step;
+                        while (tail > head && keyOf(minPieces, window[tail - 1], residue, value) >= key) {
+                            tail--;
+                        }
+                        window[tail++] = step;
+                    }
+                    while (tail > head && window[head] < step - limit) {
+                        head++;
+                    }
+                    if (tail == head) {
+                        nextMinPieces[amount] = UNREACHABLE;
+                    } else {
+                        int from = window[head];
+                        nextMinPieces[amount] = minPieces[residue + from * value] + step - from;
+                        take[layer][amount] = step - from;
+                    }
+                }
+            }
+            int[] swap = minPieces;
+            minPieces = nextMinPieces;
+            nextMinPieces = swap;
         }
 
-        return convertToMoneyList(dp[changeInCents], allValuesInCents);
+        if (minPieces[changeInCents] == UNREACHABLE) {
+            return null;
+        }
+        int[] counts = new int[DENOMINATIONS.length];
+        for (int layer = layers - 1, amount = changeInCents; layer >= 0; layer--) {
+            int pieces = take[layer][amount];
+            counts[layerDenominations[layer]] = pieces;
+            amount -= pieces * VALUES_IN_CENTS[layerDenominations[layer]];
+        }
+        return counts;
     }
 
-    // Helper to calculate total coins in a combination
-    private static int totalCoins(List<Integer> combination) {
-        return combination.stream().mapToInt(Integer::intValue).sum();
+    private static int keyOf(int[] minPieces, int step, int residue, int value) {
+        return minPieces[residue + step * value] - step;
     }
 
-    private static List<Money> convertToMoneyList(List<Integer> counts, int[] denominationsInCent) {
+    public static List<Money> toMoneyList(int[] counts) {
         List<Money> moneyList = new ArrayList<>();
-        for (int i = 0; i < counts.size(); i++) {
-            if (counts.get(i) > 0) {
-                moneyList.add(MoneyFactory.createMoney(counts.get(i), Denomination.fromValue(denominationsInCent[i] / 100.0)));
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                moneyList.add(MoneyFactory.createMoney(counts[i], DENOMINATIONS[i]));
             }
         }
         return moneyList;